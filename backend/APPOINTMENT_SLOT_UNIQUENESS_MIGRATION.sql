@@ -0,0 +1,19 @@
+-- Migration: database-enforced uniqueness of booked appointment slots
+-- Run this script on your PostgreSQL database: auto-mobile
+-- IMPORTANT: Run after APPOINTMENT_TIME_COLUMNS_MIGRATION.sql and before deploying the matching backend
+
+-- slot_active is TRUE for appointments holding their slot and NULL once cancelled
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS slot_active BOOLEAN;
+UPDATE appointments SET slot_active = CASE WHEN status = 'CANCELLED' THEN NULL ELSE TRUE END;
+
+-- Existing double bookings must be resolved before the constraint can be added
+SELECT 'APPOINTMENTS - Double-booked slots:' as info;
+SELECT date, start_time, COUNT(*) as count
+FROM appointments
+WHERE slot_active
+GROUP BY date, start_time
+HAVING COUNT(*) > 1;
+
+-- NULLs never collide, so cancelled appointments do not block the slot
+ALTER TABLE appointments
+    ADD CONSTRAINT uk_appointments_active_slot UNIQUE (date, start_time, slot_active);
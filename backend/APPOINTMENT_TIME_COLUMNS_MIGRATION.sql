@@ -0,0 +1,33 @@
+-- Migration: typed start/end times and composite indexes for appointments and time logs
+-- Run this script on your PostgreSQL database: auto-mobile
+-- IMPORTANT: Run this before deploying the version that maps start_time/end_time as LocalTime
+
+-- Normalise legacy values: keep the start of "HH:mm-HH:mm" ranges and trim whitespace.
+-- PostgreSQL's time input accepts "9:00", "09:00", "09:00:00" and "9:00 AM".
+UPDATE appointments SET start_time = trim(split_part(start_time, '-', 1));
+UPDATE appointments SET end_time = trim(split_part(end_time, '-', 1));
+UPDATE appointments SET end_time = start_time WHERE end_time IS NULL OR end_time = '';
+
+ALTER TABLE appointments
+    ALTER COLUMN start_time TYPE TIME USING start_time::time,
+    ALTER COLUMN end_time TYPE TIME USING end_time::time;
+
+ALTER TABLE time_logs
+    ALTER COLUMN start_time TYPE TIME USING trim(start_time)::time,
+    ALTER COLUMN end_time TYPE TIME USING trim(end_time)::time;
+
+-- The legacy 'time' column is now derived from start/end on every write; refresh existing rows
+UPDATE appointments SET time = to_char(start_time, 'HH24:MI') || '-' || to_char(end_time, 'HH24:MI');
+
+-- Slot checks and keyset listings by date; status makes the slot check index-only
+CREATE INDEX IF NOT EXISTS idx_appointments_date_start_time ON appointments (date, start_time, status);
+-- Customer listings ordered by date
+CREATE INDEX IF NOT EXISTS idx_appointments_customer_date ON appointments (customer_id, date);
+-- Employee listings filtered by status
+CREATE INDEX IF NOT EXISTS idx_appointments_employee_status ON appointments (employee_id, status);
+-- Availability lookups by day
+CREATE INDEX IF NOT EXISTS idx_time_logs_date ON time_logs (date);
+
+-- Verify the changes
+SELECT column_name, data_type FROM information_schema.columns
+WHERE table_name IN ('appointments', 'time_logs') AND column_name IN ('start_time', 'end_time');
@@ -0,0 +1,16 @@
+-- Migration: one OTP per email and indexed OTP expiry
+-- Run this script on your PostgreSQL database: auto-mobile
+-- Only needed with otp.store=database
+
+-- Keep only the newest OTP per email before adding the unique constraint
+DELETE FROM otp o
+USING otp newer
+WHERE o.email = newer.email AND o.id < newer.id;
+
+ALTER TABLE otp ADD CONSTRAINT uk_otp_email UNIQUE (email);
+
+-- Expired OTPs are removed with a single range delete
+CREATE INDEX IF NOT EXISTS idx_otp_expiry_time ON otp (expiry_time);
+
+-- Verify
+SELECT 'OTP - Rows after cleanup:' as info, COUNT(*) as count FROM otp;
@@ -0,0 +1,63 @@
+package com.example.ead_backend.cache;
+
+/**
+ * Wire format for cache invalidations: {@code nodeId|cacheName|type|key}.
+ * String, Long and Integer keys are sent with a type tag so the receiving replica
+ * evicts the same key object; any other key type is sent as a clear of the whole cache.
+ *
+ * @param nodeId    the publishing replica
+ * @param cacheName the cache to invalidate
+ * @param clearAll  whether the whole cache is cleared
+ * @param key       the evicted key, null when {@code clearAll}
+ */
+record CacheInvalidation(String nodeId, String cacheName, boolean clearAll, Object key) {
+
+    private static final String SEPARATOR = "|";
+
+    static CacheInvalidation evict(String nodeId, String cacheName, Object key) {
+        if (key instanceof String || key instanceof Long || key instanceof Integer) {
+            return new CacheInvalidation(nodeId, cacheName, false, key);
+        }
+        return clear(nodeId, cacheName);
+    }
+
+    static CacheInvalidation clear(String nodeId, String cacheName) {
+        return new CacheInvalidation(nodeId, cacheName, true, null);
+    }
+
+    String encode() {
+        String type;
+        if (clearAll) {
+            type = "C";
+        } else if (key instanceof Long) {
+            type = "L";
+        } else if (key instanceof Integer) {
+            type = "I";
+        } else {
+            type = "S";
+        }
+        return nodeId + SEPARATOR + cacheName + SEPARATOR + type + SEPARATOR + (clearAll ? "" : key);
+    }
+
+    /**
+     * @return the decoded invalidation, or null if the payload is malformed
+     */
+    static CacheInvalidation decode(String payload) {
+        // Limit 4 so the key may itself contain the separator
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return switch (parts[2]) {
+                case "C" -> clear(parts[0], parts[1]);
+                case "L" -> new CacheInvalidation(parts[0], parts[1], false, Long.valueOf(parts[3]));
+                case "I" -> new CacheInvalidation(parts[0], parts[1], false, Integer.valueOf(parts[3]));
+                case "S" -> new CacheInvalidation(parts[0], parts[1], false, parts[3]);
+                default -> null;
+            };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
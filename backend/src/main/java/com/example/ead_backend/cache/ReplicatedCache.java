@@ -0,0 +1,81 @@
+package com.example.ead_backend.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that broadcasts evictions through its {@link ReplicatedCacheManager}.
+ */
+class ReplicatedCache implements Cache {
+
+    private final Cache local;
+    private final ReplicatedCacheManager manager;
+
+    ReplicatedCache(Cache local, ReplicatedCacheManager manager) {
+        this.local = local;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return local.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return local.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        manager.publishEvict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.evictIfPresent(key);
+        // Other replicas may hold the key even if this one does not
+        manager.publishEvict(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        manager.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean hadEntries = local.invalidate();
+        manager.publishClear(getName());
+        return hadEntries;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.ead_backend.cache;
+
+import com.example.ead_backend.messaging.MessageBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that mirrors evictions to every replica.
+ * Wraps a local cache manager; evict and clear on any cache are applied locally and
+ * published on {@value #CHANNEL}, and other replicas apply the same eviction to their
+ * own copy. Puts stay local: each replica reloads from the database on its next miss.
+ */
+@Slf4j
+public class ReplicatedCacheManager implements CacheManager {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    private final CacheManager delegate;
+    private final MessageBus messageBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, ReplicatedCache> caches = new ConcurrentHashMap<>();
+
+    public ReplicatedCacheManager(CacheManager delegate, MessageBus messageBus) {
+        this.delegate = delegate;
+        this.messageBus = messageBus;
+        messageBus.subscribe(CHANNEL, this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ReplicatedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache local = delegate.getCache(name);
+        if (local == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new ReplicatedCache(local, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        messageBus.publish(CHANNEL, CacheInvalidation.evict(nodeId, cacheName, key).encode());
+    }
+
+    void publishClear(String cacheName) {
+        messageBus.publish(CHANNEL, CacheInvalidation.clear(nodeId, cacheName).encode());
+    }
+
+    private void onInvalidation(String payload) {
+        CacheInvalidation invalidation = CacheInvalidation.decode(payload);
+        if (invalidation == null) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (nodeId.equals(invalidation.nodeId())) {
+            return; // already applied locally
+        }
+        Cache local = delegate.getCache(invalidation.cacheName());
+        if (local == null) {
+            return;
+        }
+        if (invalidation.clearAll()) {
+            local.clear();
+        } else {
+            local.evict(invalidation.key());
+        }
+        log.debug("Applied remote cache invalidation {}", invalidation);
+    }
+}
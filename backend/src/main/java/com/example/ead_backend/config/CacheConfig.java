@@ -0,0 +1,51 @@
+package com.example.ead_backend.config;
+
+import com.example.ead_backend.cache.ReplicatedCacheManager;
+import com.example.ead_backend.messaging.MessageBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache Configuration
+ * Local Caffeine caches configured from the spring.cache.* properties, wrapped so that
+ * evictions on one replica are applied on every replica through the message bus.
+ */
+@Configuration
+// Runs outside the transaction interceptor so evictions happen after commit,
+// otherwise a concurrent read could re-cache the pre-commit state
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String SERVICES_ACTIVE = "services.active";
+    public static final String SERVICES_ALL = "services.all";
+    public static final String SERVICES_BY_ID = "services.byId";
+    // Identity snapshots (AuthenticatedUser) keyed by email
+    public static final String USERS_IDENTITY = "users.identity";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties,
+                                     MessageBus messageBus,
+                                     @Value("${cache.users-identity.spec:maximumSize=10000,expireAfterWrite=5m}") String identitySpec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            caffeine.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeine.setCacheNames(cacheProperties.getCacheNames());
+        }
+        // One entry per active user, so this cache is sized separately from the catalog caches
+        caffeine.registerCustomCache(USERS_IDENTITY, Caffeine.from(identitySpec).build());
+        return new ReplicatedCacheManager(caffeine, messageBus);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ead_backend.config;
+
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.messaging.PostgresMessageBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Messaging Configuration
+ * Selects the cross-replica message bus with messaging.transport:
+ * "postgres" uses LISTEN/NOTIFY on the application database; "in-process" (the
+ * default, e.g. with embedded H2) only reaches listeners in the same JVM.
+ */
+@Configuration
+public class MessagingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.transport", havingValue = "postgres")
+    public MessageBus postgresMessageBus(DataSource dataSource, DataSourceProperties dataSourceProperties) {
+        // The listener keeps its connection open for the life of the application, so it is
+        // opened outside the pool instead of permanently taking one of the pool's connections
+        DataSource listenerDataSource = new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        return new PostgresMessageBus(dataSource, listenerDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.transport", havingValue = "in-process", matchIfMissing = true)
+    public MessageBus inProcessMessageBus() {
+        return new InProcessMessageBus();
+    }
+}
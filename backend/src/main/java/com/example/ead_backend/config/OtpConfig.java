@@ -0,0 +1,31 @@
+package com.example.ead_backend.config;
+
+import com.example.ead_backend.otp.DatabaseOtpStore;
+import com.example.ead_backend.otp.InMemoryOtpStore;
+import com.example.ead_backend.otp.OtpStore;
+import com.example.ead_backend.repository.OTPRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OTP Configuration
+ * Selects the OTP store with otp.store: "database" keeps codes in the otp table so any
+ * replica can verify them; "memory" (the default) keeps them in the JVM and only suits
+ * single-instance runs.
+ */
+@Configuration
+public class OtpConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "otp.store", havingValue = "database")
+    public OtpStore databaseOtpStore(OTPRepository otpRepository) {
+        return new DatabaseOtpStore(otpRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "otp.store", havingValue = "memory", matchIfMissing = true)
+    public OtpStore inMemoryOtpStore() {
+        return new InMemoryOtpStore(100_000);
+    }
+}
@@ -1,15 +1,40 @@
 package com.example.ead_backend.config;
 
+import com.example.ead_backend.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
 
+    /**
+     * BCrypt with a configurable cost, run on a bounded pool.
+     * Raising the strength makes existing hashes report upgradeEncoding, and they are
+     * re-hashed on the user's next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hash-threads:0}") int threads,
+            @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength), poolSize, queueCapacity);
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("password.hash.queue.depth", encoder, BoundedPasswordEncoder::getQueueDepth)
+                    .description("Password hashing calls waiting for a thread")
+                    .register(registry);
+            Gauge.builder("password.hash.active", encoder, BoundedPasswordEncoder::getActiveCount)
+                    .description("Password hashing calls in progress")
+                    .register(registry);
+        });
+        return encoder;
     }
 }
@@ -0,0 +1,33 @@
+package com.example.ead_backend.config;
+
+import com.example.ead_backend.ratelimit.InMemoryRateLimitStore;
+import com.example.ead_backend.ratelimit.JdbcRateLimitStore;
+import com.example.ead_backend.ratelimit.RateLimitStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit Configuration
+ * Selects where token buckets live with rate-limit.store: "jdbc" shares them across
+ * replicas through the rate_limit_buckets table; "memory" (the default) keeps them per JVM.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+    public RateLimitStore jdbcRateLimitStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcRateLimitStore(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+    public RateLimitStore inMemoryRateLimitStore(@Value("${rate-limit.memory.max-buckets:100000}") long maxBuckets) {
+        return new InMemoryRateLimitStore(maxBuckets, Duration.ofMinutes(30));
+    }
+}
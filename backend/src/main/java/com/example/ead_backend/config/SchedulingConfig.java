@@ -0,0 +1,17 @@
+package com.example.ead_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled jobs. The outbox dispatcher and the revocation resync must run on
+ * every replica, so there is no global switch; jobs that may be turned off have their own
+ * property (cleanup.enabled, mail.outbox.enabled). The scheduler pool is sized with
+ * spring.task.scheduling.pool.size so a long cleanup pass cannot delay the dispatcher.
+ * Jobs that must run once per cluster take a JdbcLeaderLock themselves.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,9 @@
 package com.example.ead_backend.config;
 
 import com.example.ead_backend.filter.JwtAuthenticationFilter;
+import com.example.ead_backend.filter.RateLimitFilter;
 import com.example.ead_backend.service.impl.UserService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +36,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -41,8 +46,12 @@ public class SecurityConfig {
                 .csrf(customizer -> customizer.disable())
                 .authorizeHttpRequests(request -> request
                         .requestMatchers("/", "/error").permitAll()
+                        // Async dispatches (event streams completing) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/actuator/health/**").permitAll() // Allow health checks
                         .requestMatchers("/api/auth/**").permitAll()
+                        // STOMP sessions authenticate with the JWT on the CONNECT frame
+                        .requestMatchers("/ws/**").permitAll()
 
                         .requestMatchers("/api/files/**").permitAll() // Allow public access to uploaded files
 
@@ -66,6 +75,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Throttled requests are turned away before any authentication work
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 
@@ -74,6 +85,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hash on login when the configured BCrypt strength has been raised
+        authProvider.setUserDetailsPasswordService(userService);
         return authProvider;
     }
 
@@ -89,7 +102,7 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("*"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
-        config.setExposedHeaders(List.of("Authorization", "Content-Type"));
+        config.setExposedHeaders(List.of("Authorization", "Content-Type", "X-Next-Cursor"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L); // Cache preflight response for 1 hour
 
@@ -2,10 +2,13 @@ package com.example.ead_backend.controller;
 
 import com.example.ead_backend.dto.AppointmentDTO;
 import com.example.ead_backend.dto.CreateEmployeeRequest;
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.dto.CustomerDTO;
 import com.example.ead_backend.dto.EmployeeCreateDTO;
 import com.example.ead_backend.dto.EmployeeDTO;
 import com.example.ead_backend.dto.ProjectDTO;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import com.example.ead_backend.model.enums.ProjectStatus;
 import com.example.ead_backend.service.AdminService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +18,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,10 +58,20 @@ public class AdminController {
     }
 
     @GetMapping("/appointments")
-    public ResponseEntity<List<AppointmentDTO>> getAllAppointments() {
+    public ResponseEntity<List<AppointmentDTO>> getAllAppointments(@RequestParam(required = false) Long employeeId,
+                                                                   @RequestParam(required = false) AppointmentStatus status,
+                                                                   @RequestParam(required = false) String from,
+                                                                   @RequestParam(required = false) String to,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer limit) {
         try {
-            List<AppointmentDTO> appointments = adminService.getAllAppointments();
-            return ResponseEntity.ok(appointments);
+            CursorPage<AppointmentDTO> page = adminService.getAppointments(employeeId, status,
+                    from != null ? LocalDate.parse(from) : null,
+                    to != null ? LocalDate.parse(to) : null,
+                    cursor, limit);
+            return withNextCursor(page);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -83,12 +98,31 @@ public class AdminController {
     }
 
     @GetMapping("/projects")
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
+    public ResponseEntity<List<ProjectDTO>> getAllProjects(@RequestParam(required = false) Long employeeId,
+                                                           @RequestParam(required = false) ProjectStatus status,
+                                                           @RequestParam(required = false) String from,
+                                                           @RequestParam(required = false) String to,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer limit) {
         try {
-            List<ProjectDTO> projects = adminService.getAllProjects();
-            return ResponseEntity.ok(projects);
+            CursorPage<ProjectDTO> page = adminService.getProjects(employeeId, status,
+                    from != null ? LocalDate.parse(from) : null,
+                    to != null ? LocalDate.parse(to) : null,
+                    cursor, limit);
+            return withNextCursor(page);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // Page items go in the body; the cursor for the next page goes in the X-Next-Cursor header
+    private static <T> ResponseEntity<List<T>> withNextCursor(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
 }
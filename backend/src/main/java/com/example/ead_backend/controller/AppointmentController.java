@@ -2,12 +2,18 @@ package com.example.ead_backend.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.ead_backend.dto.AppointmentDTO;
+import com.example.ead_backend.dto.CursorPage;
+import com.example.ead_backend.model.enums.AppointmentStatus;
 import com.example.ead_backend.service.AppointmentService;
+import com.example.ead_backend.service.SlotOccupancyIndex;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import java.util.List;
 import java.security.Principal;
@@ -46,23 +52,40 @@ public class AppointmentController {
         return appointment;
     }
 
+    // Keyset-paginated: pass the X-Next-Cursor response header back as ?cursor= for the next page
     @GetMapping
-    public List<AppointmentDTO> getAll(@RequestParam(required = false) String customerId, Principal principal) {
+    public ResponseEntity<List<AppointmentDTO>> getAll(@RequestParam(required = false) String customerId,
+                                                       @RequestParam(required = false) Long employeeId,
+                                                       @RequestParam(required = false) AppointmentStatus status,
+                                                       @RequestParam(required = false) String from,
+                                                       @RequestParam(required = false) String to,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       Principal principal) {
         // If no customerId provided but user is authenticated, use their ID
         if (customerId == null && principal != null) {
             customerId = getCurrentUserId(principal);
         }
-        
-        // If customerId is provided (either via param or auth), filter by it
-        if (customerId != null) {
-            return appointmentService.getAppointmentsByCustomerId(customerId);
+
+        // A null customerId returns all appointments (e.g., for admin users)
+        CursorPage<AppointmentDTO> page;
+        try {
+            page = appointmentService.getAppointmentsPage(customerId, employeeId, status,
+                    from != null ? LocalDate.parse(from) : null,
+                    to != null ? LocalDate.parse(to) : null,
+                    cursor, limit);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // Unparseable from/to or a cursor this endpoint did not issue
+            return ResponseEntity.badRequest().build();
         }
-        
-        // Otherwise return all appointments (e.g., for admin users)
-        return appointmentService.getAllAppointments();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
-    @GetMapping("/availability")
+    @GetMapping(value = "/availability", params = "date")
     public Map<String, Object> getAvailability(@RequestParam("date") String dateStr) {
         LocalDate date = LocalDate.parse(dateStr);
         List<String> booked = appointmentService.getBookedStartTimes(date);
@@ -72,6 +95,28 @@ public class AppointmentController {
         );
     }
 
+    // Whole booking calendar in one call: bit n of each day's value marks the
+    // 30-minute slot starting n * 30 minutes after midnight as booked
+    @GetMapping(value = "/availability", params = {"from", "to", "!date"})
+    public ResponseEntity<Map<String, Object>> getAvailabilityRange(@RequestParam("from") String fromStr,
+                                                                    @RequestParam("to") String toStr) {
+        Map<LocalDate, Long> masks;
+        try {
+            masks = appointmentService.getBookedSlotMasks(LocalDate.parse(fromStr), LocalDate.parse(toStr));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // Unparseable dates, 'to' before 'from' or a range over the cap
+            return ResponseEntity.badRequest().build();
+        }
+        Map<String, Long> days = new LinkedHashMap<>();
+        masks.forEach((date, mask) -> days.put(date.toString(), mask));
+        return ResponseEntity.ok(Map.of(
+            "from", fromStr,
+            "to", toStr,
+            "slotMinutes", SlotOccupancyIndex.SLOT_MINUTES,
+            "days", days
+        ));
+    }
+
     @PutMapping("/{id}")
     public AppointmentDTO update(@PathVariable String id, @RequestBody AppointmentDTO dto, Principal principal) {
         // Verify user owns the appointment they're trying to update
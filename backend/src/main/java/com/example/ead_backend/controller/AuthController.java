@@ -2,25 +2,37 @@ package com.example.ead_backend.controller;
 
 import com.example.ead_backend.dto.AuthResponse;
 import com.example.ead_backend.dto.LoginRequest;
+import com.example.ead_backend.dto.RefreshTokenRequest;
 import com.example.ead_backend.dto.SignupRequest;
 import com.example.ead_backend.model.entity.Customer;
 import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.example.ead_backend.security.PasswordHashingBusyException;
 import com.example.ead_backend.service.CustomerService;
+import com.example.ead_backend.service.impl.RefreshTokenService;
+import com.example.ead_backend.service.impl.TokenRevocationService;
 import com.example.ead_backend.service.impl.UserService;
 import com.example.ead_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -42,6 +54,15 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserRepo userRepo;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -69,9 +90,13 @@ public class AuthController {
                 role = user.getEmployee().getRole().name();
             }
 
-            return ResponseEntity.ok(new AuthResponse(token, user.getEmail(), role));
+            String refreshToken = refreshTokenService.issue(user.getId());
+            return ResponseEntity.ok(new AuthResponse(token, user.getEmail(), role,
+                    refreshToken, jwtUtil.getAccessTokenTtlSeconds()));
         } catch (BadCredentialsException e) {
             return ResponseEntity.badRequest().body("Invalid email or password");
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Authentication failed: " + e.getMessage());
         }
@@ -106,18 +131,77 @@ public class AuthController {
 
             // Generate JWT token for the newly created user
             String token = jwtUtil.generateToken(user);
+            String refreshToken = refreshTokenService.issue(user.getId());
 
-            return ResponseEntity.ok(new AuthResponse(token, user.getEmail(), "CUSTOMER"));
+            return ResponseEntity.ok(new AuthResponse(token, user.getEmail(), "CUSTOMER",
+                    refreshToken, jwtUtil.getAccessTokenTtlSeconds()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Registration failed: " + e.getMessage());
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body("Refresh token is required");
+        }
+
+        try {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+            // Reload the user so role or profile changes since the last login are picked up
+            User user = userRepo.findWithProfilesById(rotation.userId())
+                    .orElseThrow(() -> new IllegalArgumentException("User no longer exists"));
+            String token = jwtUtil.generateToken(user);
+            String role = user.getEmployee() != null ? user.getEmployee().getRole().name() : "CUSTOMER";
+
+            return ResponseEntity.ok(new AuthResponse(token, user.getEmail(), role,
+                    rotation.refreshToken(), jwtUtil.getAccessTokenTtlSeconds()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Issue a short-lived token for the event-stream endpoints, passed as ?token=...
+     * EventSource cannot send an Authorization header, so clients fetch a fresh token
+     * with their access token before opening or reopening a stream.
+     */
+    @PostMapping("/stream-token")
+    public ResponseEntity<?> streamToken(Principal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication required");
+        }
+        try {
+            AuthenticatedUser identity = userService.getIdentity(principal.getName());
+            Map<String, Object> body = new HashMap<>();
+            body.put("token", jwtUtil.generateStreamToken(identity));
+            body.put("expiresIn", jwtUtil.getStreamTokenTtlSeconds());
+            return ResponseEntity.ok(body);
+        } catch (UsernameNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User no longer exists");
+        }
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
-        // JWT tokens are stateless, so logout is handled client-side by removing the token
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                    @RequestBody(required = false) RefreshTokenRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+
+        // Revoke the presented token on every replica; clients should still discard it
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                Claims claims = jwtUtil.extractAllClaims(authHeader.substring(7));
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+            } catch (JwtException | IllegalArgumentException e) {
+                // Invalid or expired tokens are already unusable
+            }
+        }
         return ResponseEntity.ok("Logout successful");
     }
 }
@@ -2,17 +2,20 @@ package com.example.ead_backend.controller;
 
 import com.example.ead_backend.dto.AppointmentDTO;
 import com.example.ead_backend.dto.ProjectDTO;
-import com.example.ead_backend.model.entity.Employee;
-import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import com.example.ead_backend.model.enums.ProjectStatus;
 import com.example.ead_backend.repository.EmployeeRepository;
-import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.security.AuthenticatedUser;
 import com.example.ead_backend.service.AppointmentService;
 import com.example.ead_backend.service.ProjectService;
+import com.example.ead_backend.service.impl.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -24,7 +27,7 @@ public class EmployeeController {
     private final AppointmentService appointmentService;
     private final ProjectService projectService;
     private final EmployeeRepository employeeRepository;
-    private final UserRepo userRepository;
+    private final UserService userService;
 
     @GetMapping("/appointments")
     public List<AppointmentDTO> getMyAppointments(Principal principal) {
@@ -32,19 +35,8 @@ public class EmployeeController {
             throw new RuntimeException("User not authenticated");
         }
         
-        String email = principal.getName();
-        log.info("Fetching appointments for employee with email: {}", email);
-        
-        // Find user by email, then get employee
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found: " + email));
-        
-        Employee employee = user.getEmployee();
-        if (employee == null) {
-            throw new RuntimeException("Employee profile not found for user: " + email);
-        }
-        
-        return appointmentService.getAppointmentsByEmployeeId(employee.getId());
+        log.info("Fetching appointments for employee with email: {}", principal.getName());
+        return appointmentService.getAppointmentsByEmployeeId(employeeId(principal));
     }
 
     @GetMapping("/appointments/{status}")
@@ -53,19 +45,14 @@ public class EmployeeController {
             throw new RuntimeException("User not authenticated");
         }
         
-        String email = principal.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found: " + email));
-        
-        Employee employee = user.getEmployee();
-        if (employee == null) {
-            throw new RuntimeException("Employee profile not found for user: " + email);
-        }
-        
-        log.info("Fetching {} appointments for employee {}", status, employee.getId());
-        return appointmentService.getAppointmentsByEmployeeId(employee.getId()).stream()
-                .filter(apt -> status.equalsIgnoreCase(apt.getStatus().name()))
-                .toList();
+        Long employeeId = employeeId(principal);
+        log.info("Fetching {} appointments for employee {}", status, employeeId);
+        // Unknown statuses match nothing, as before; known ones are filtered in the query
+        return Arrays.stream(AppointmentStatus.values())
+                .filter(s -> s.name().equalsIgnoreCase(status))
+                .findFirst()
+                .map(s -> appointmentService.getAppointmentsByEmployeeIdAndStatus(employeeId, s))
+                .orElse(List.of());
     }
 
     @GetMapping("/projects")
@@ -74,19 +61,8 @@ public class EmployeeController {
             throw new RuntimeException("User not authenticated");
         }
         
-        String email = principal.getName();
-        log.info("Fetching projects for employee with email: {}", email);
-        
-        // Find user by email, then get employee
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found: " + email));
-        
-        Employee employee = user.getEmployee();
-        if (employee == null) {
-            throw new RuntimeException("Employee profile not found for user: " + email);
-        }
-        
-        return projectService.getProjectsByEmployeeId(employee.getId());
+        log.info("Fetching projects for employee with email: {}", principal.getName());
+        return projectService.getProjectsByEmployeeId(employeeId(principal));
     }
 
     @GetMapping("/projects/{status}")
@@ -95,18 +71,29 @@ public class EmployeeController {
             throw new RuntimeException("User not authenticated");
         }
         
+        Long employeeId = employeeId(principal);
+        log.info("Fetching {} projects for employee {}", status, employeeId);
+        return Arrays.stream(ProjectStatus.values())
+                .filter(s -> s.name().equalsIgnoreCase(status))
+                .findFirst()
+                .map(s -> projectService.getProjectsByEmployeeIdAndStatus(employeeId, s))
+                .orElse(List.of());
+    }
+
+    /**
+     * Resolve the caller's employee ID from the cached identity, without a user query.
+     */
+    private Long employeeId(Principal principal) {
         String email = principal.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found: " + email));
-        
-        Employee employee = user.getEmployee();
-        if (employee == null) {
+        AuthenticatedUser identity;
+        try {
+            identity = userService.getIdentity(email);
+        } catch (UsernameNotFoundException e) {
+            throw new RuntimeException("User not found: " + email);
+        }
+        if (identity.employeeId() == null) {
             throw new RuntimeException("Employee profile not found for user: " + email);
         }
-        
-        log.info("Fetching {} projects for employee {}", status, employee.getId());
-        return projectService.getProjectsByEmployeeId(employee.getId()).stream()
-                .filter(proj -> status.equalsIgnoreCase(proj.getStatus().name()))
-                .toList();
+        return identity.employeeId();
     }
 }
@@ -0,0 +1,48 @@
+package com.example.ead_backend.controller;
+
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.example.ead_backend.service.impl.UserService;
+import com.example.ead_backend.sse.SseBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * REST Controller for the caller's live notifications.
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3001", "http://localhost:3000"})
+public class NotificationController {
+
+    private final UserService userService;
+    private final SseBroadcaster sseBroadcaster;
+
+    /**
+     * Stream the caller's notifications as Server-Sent Events, the same messages a STOMP
+     * session receives on /user/queue/notifications. Browsers authenticate with a stream
+     * token from /api/auth/stream-token in the {@code token} query parameter. The token
+     * lives for a minute, so EventSource's own reconnect is refused with 401; clients open
+     * a new EventSource with a fresh token instead.
+     *
+     * @param principal the authenticated user
+     * @return the event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(Principal principal) {
+        AuthenticatedUser identity = userService.getIdentity(principal.getName());
+        log.debug("Opening notification stream for user {}", identity.userId());
+
+        SseEmitter emitter = sseBroadcaster.open("/user/" + identity.userId() + "/queue/notifications", List::of);
+        // Keep the ingress from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.ead_backend.controller;
 
 import com.example.ead_backend.dto.ProgressResponse;
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
 import com.example.ead_backend.service.ProgressService;
+import com.example.ead_backend.sse.SseBroadcaster;
+import com.example.ead_backend.websocket.ProgressEventLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for customer progress view operations.
@@ -20,6 +26,8 @@ import java.util.List;
 public class ProgressViewController {
 
     private final ProgressService progressService;
+    private final ProgressEventLog progressEventLog;
+    private final SseBroadcaster sseBroadcaster;
 
     /**
      * Get all progress updates for an appointment.
@@ -77,4 +85,54 @@ public class ProgressViewController {
 
         return ResponseEntity.ok(percentage);
     }
+
+    /**
+     * Get the progress events a client missed, for resuming a live subscription.
+     *
+     * @param appointmentId the appointment ID (UUID string)
+     * @param since         the last sequence the client received
+     * @return newer events, oldest first
+     */
+    @GetMapping("/{appointmentId}/events")
+    public ResponseEntity<List<ProgressUpdateMessage>> getProgressEventsSince(
+            @PathVariable String appointmentId,
+            @RequestParam(defaultValue = "0") long since) {
+
+        log.debug("Fetching progress events for appointment {} since {}", appointmentId, since);
+
+        return ResponseEntity.ok(progressEventLog.eventsSince(appointmentId, since));
+    }
+
+    /**
+     * Stream progress updates as Server-Sent Events, the same messages STOMP subscribers of
+     * /topic/progress.{appointmentId} receive. Each event's ID is its sequence, and events
+     * after the client's resume point are replayed first. Browsers authenticate with a
+     * stream token from /api/auth/stream-token in the {@code token} query parameter.
+     * <p>
+     * The stream token lives for a minute, so EventSource's own reconnect, which repeats the
+     * original URL, is refused with 401 and not retried. To resume, clients close the
+     * EventSource, fetch a new stream token and open a new one with {@code since} set to
+     * the last event ID they received.
+     *
+     * @param appointmentId the appointment ID (UUID string)
+     * @param lastEventId   the last sequence the client received, sent automatically on reconnect
+     * @param since         the last sequence the client received, for a newly opened EventSource
+     * @return the event stream
+     */
+    @GetMapping(path = "/{appointmentId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProgress(
+            @PathVariable String appointmentId,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since) {
+
+        Long resumeFrom = lastEventId != null ? lastEventId : since;
+        Supplier<List<SseBroadcaster.Event>> backlog = () -> resumeFrom == null ? List.of()
+                : progressEventLog.eventsSince(appointmentId, resumeFrom).stream()
+                        .map(event -> new SseBroadcaster.Event(event.getSequence(), event))
+                        .toList();
+
+        SseEmitter emitter = sseBroadcaster.open("/topic/progress." + appointmentId, backlog);
+        // Keep the ingress from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
 }
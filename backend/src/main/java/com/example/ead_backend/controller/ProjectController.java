@@ -2,11 +2,16 @@ package com.example.ead_backend.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.dto.ProjectDTO;
+import com.example.ead_backend.model.enums.ProjectStatus;
 import com.example.ead_backend.service.ProjectService;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.security.Principal;
 
@@ -40,15 +45,34 @@ public class ProjectController {
         return project;
     }
 
+    // Keyset-paginated: pass the X-Next-Cursor response header back as ?cursor= for the next page
     @GetMapping
-    public List<ProjectDTO> getAll(@RequestParam(required = false) String customerId, Principal principal) {
+    public ResponseEntity<List<ProjectDTO>> getAll(@RequestParam(required = false) String customerId,
+                                                   @RequestParam(required = false) Long employeeId,
+                                                   @RequestParam(required = false) ProjectStatus status,
+                                                   @RequestParam(required = false) String from,
+                                                   @RequestParam(required = false) String to,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit,
+                                                   Principal principal) {
         if (customerId == null && principal != null) {
             customerId = getCurrentUserId(principal);
         }
-        if (customerId != null) {
-            return projectService.getProjectsByCustomerId(customerId);
+        CursorPage<ProjectDTO> page;
+        try {
+            page = projectService.getProjectsPage(customerId, employeeId, status,
+                    from != null ? LocalDate.parse(from) : null,
+                    to != null ? LocalDate.parse(to) : null,
+                    cursor, limit);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // Unparseable from/to or a cursor this endpoint did not issue
+            return ResponseEntity.badRequest().build();
         }
-        return projectService.getAllProjects();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @PutMapping("/{id}")
@@ -1,19 +1,23 @@
 package com.example.ead_backend.controller;
 
+import com.example.ead_backend.dto.ServiceCatalog;
 import com.example.ead_backend.dto.ServiceDTO;
 import com.example.ead_backend.service.ServiceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST Controller for managing predefined services
@@ -168,10 +172,19 @@ public class ServiceController {
      * Accessible by customers and unauthenticated users for browsing
      */
     @GetMapping("/api/customer/services")
-    public ResponseEntity<List<ServiceDTO>> getActiveServicesForCustomer() {
+    public ResponseEntity<List<ServiceDTO>> getActiveServicesForCustomer(WebRequest request) {
         log.info("Customer fetching active services");
-        List<ServiceDTO> services = serviceService.getActiveServices();
-        return ResponseEntity.ok(services);
+        ServiceCatalog catalog = serviceService.getActiveServiceCatalog();
+
+        // Let browsers revalidate with If-None-Match and get a 304 when the catalog is unchanged.
+        // The tag is computed when the catalog is cached, so any visible change produces a new one.
+        if (request.checkNotModified(catalog.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.eTag())
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic())
+                .body(catalog.services());
     }
 
     /**
@@ -5,6 +5,8 @@ public class AuthResponse {
     private String type = "Bearer";
     private String email;
     private String role;
+    private String refreshToken;
+    private long expiresIn; // access token lifetime in seconds
 
     public AuthResponse() {}
 
@@ -14,6 +16,12 @@ public class AuthResponse {
         this.role = role;
     }
 
+    public AuthResponse(String token, String email, String role, String refreshToken, long expiresIn) {
+        this(token, email, role);
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
     public String getToken() { return token; }
     public void setToken(String token) { this.token = token; }
 
@@ -25,4 +33,10 @@ public class AuthResponse {
 
     public String getRole() { return role; }
     public void setRole(String role) { this.role = role; }
+
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+
+    public long getExpiresIn() { return expiresIn; }
+    public void setExpiresIn(long expiresIn) { this.expiresIn = expiresIn; }
 }
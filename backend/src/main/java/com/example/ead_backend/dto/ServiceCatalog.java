@@ -0,0 +1,11 @@
+package com.example.ead_backend.dto;
+
+import java.util.List;
+
+/**
+ * The active service catalog together with its HTTP entity tag.
+ * The tag is computed once when the catalog is loaded into the cache,
+ * so conditional GETs do not re-serialize the catalog on every request.
+ */
+public record ServiceCatalog(List<ServiceDTO> services, String eTag) {
+}
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * Data Transfer Object for Service entity
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ServiceDTO {
@@ -0,0 +1,116 @@
+package com.example.ead_backend.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Request wrapper that lets a filter peek at the start of the body and still hand the
+ * complete body to the controller. At most {@code limit} bytes are buffered; anything
+ * beyond is streamed through untouched.
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] head;
+    private final boolean complete;
+    private final ServletInputStream body;
+
+    CachedBodyRequest(HttpServletRequest request, int limit) throws IOException {
+        super(request);
+        ServletInputStream original = request.getInputStream();
+        byte[] read = original.readNBytes(limit + 1);
+        this.complete = read.length <= limit;
+        this.head = complete ? read : Arrays.copyOf(read, limit);
+        this.body = new ReplayingInputStream(new ByteArrayInputStream(read), original);
+    }
+
+    /**
+     * The buffered start of the body, or null if the body was longer than the limit.
+     */
+    byte[] getCachedBody() {
+        return complete ? head : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return body;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replays the bytes read ahead, then hands every call to the container's stream.
+     */
+    private static final class ReplayingInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream readAhead;
+        private final ServletInputStream original;
+
+        ReplayingInputStream(ByteArrayInputStream readAhead, ServletInputStream original) {
+            this.readAhead = readAhead;
+            this.original = original;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return readAhead.available() > 0 ? readAhead.read() : original.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            return readAhead.available() > 0 ? readAhead.read(b, off, len) : original.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return readAhead.available() == 0 && original.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return readAhead.available() > 0 || original.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            original.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    readListener.onDataAvailable();
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    // A short body was fully read ahead, so the container may report the end
+                    // before the listener has seen any of it
+                    if (readAhead.available() > 0) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+    }
+}
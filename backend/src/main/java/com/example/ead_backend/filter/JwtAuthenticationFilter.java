@@ -1,16 +1,21 @@
 package com.example.ead_backend.filter;
 
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.example.ead_backend.service.impl.TokenRevocationService;
 import com.example.ead_backend.service.impl.UserService;
 import com.example.ead_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,8 +23,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // Query parameter carrying a stream token, for EventSource clients that cannot set headers
+    static final String STREAM_TOKEN_PARAM = "token";
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -27,28 +36,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Lazy
     private UserService userService;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String email;
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        String jwt = null;
+        boolean fromQuery = false;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            jwt = authHeader.substring(7);
+        } else if (isStreamRequest(request)) {
+            jwt = request.getParameter(STREAM_TOKEN_PARAM);
+            fromQuery = true;
+        }
+
+        if (jwt == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        email = jwtUtil.extractUsername(jwt); // This extracts email now
-
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(email);
-
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser principal = authenticate(jwt, fromQuery);
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
@@ -56,4 +71,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private static boolean isStreamRequest(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && request.getRequestURI().endsWith("/stream");
+    }
+
+    /**
+     * Verify the token once and build the principal from its claims.
+     * Only tokens issued before identity claims were added fall back to loading the user.
+     * Stream tokens are accepted only from the query string of a stream request, and the
+     * query string accepts nothing else, so a token leaked through a URL opens no other endpoint.
+     *
+     * @param fromQuery whether the token came from the query string rather than the header
+     * @return the principal, or null if the token is invalid (request continues unauthenticated)
+     */
+    private AuthenticatedUser authenticate(String jwt, boolean fromQuery) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractAllClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return null;
+        }
+        if (jwtUtil.isStreamToken(claims) != fromQuery) {
+            log.debug("Rejected JWT {} presented outside its scope", claims.getId());
+            return null;
+        }
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            log.debug("Rejected revoked JWT {}", claims.getId());
+            return null;
+        }
+
+        AuthenticatedUser principal = jwtUtil.toAuthenticatedUser(claims);
+        if (principal != null || claims.getSubject() == null) {
+            return principal;
+        }
+
+        // Legacy token without identity claims: resolve the identity through the user cache
+        try {
+            return userService.getIdentity(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.example.ead_backend.filter;
+
+import com.example.ead_backend.ratelimit.RateLimitStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Throttles the credential and OTP endpoints with token buckets per client IP and per
+ * email, so rejected requests never reach password hashing, OTP lookups or mail.
+ * The IP bucket is checked first and does not need the body; the email bucket reads the
+ * "email" field of the JSON body, which is then replayed to the controller. Bodies too
+ * large to inspect are rejected, since passing them on would skip the email bucket.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of(
+            "/api/auth/login",
+            "/api/password/forgot",
+            "/api/password/verify-otp",
+            "/api/password/reset");
+
+    // Credential payloads are tiny; larger bodies are refused with 413
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private final RateLimitStore store;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int ipCapacity;
+    private final double ipPerMinute;
+    private final int emailCapacity;
+    private final double emailPerMinute;
+
+    public RateLimitFilter(RateLimitStore store,
+                           ObjectMapper objectMapper,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.ip.capacity:20}") int ipCapacity,
+                           @Value("${rate-limit.ip.per-minute:10}") double ipPerMinute,
+                           @Value("${rate-limit.email.capacity:5}") int emailCapacity,
+                           @Value("${rate-limit.email.per-minute:1}") double emailPerMinute) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipCapacity = ipCapacity;
+        this.ipPerMinute = ipPerMinute;
+        this.emailCapacity = emailCapacity;
+        this.emailPerMinute = emailPerMinute;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || !LIMITED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getServletPath();
+
+        if (!store.tryConsume(path + "|ip|" + request.getRemoteAddr(), ipCapacity, ipPerMinute)) {
+            reject(response, path, "ip", ipPerMinute);
+            return;
+        }
+
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            rejectTooLarge(response, path);
+            return;
+        }
+        // Chunked bodies carry no length up front, so the buffer has the final say
+        CachedBodyRequest wrapped = new CachedBodyRequest(request, MAX_BODY_BYTES);
+        byte[] body = wrapped.getCachedBody();
+        if (body == null) {
+            rejectTooLarge(response, path);
+            return;
+        }
+        String email = extractEmail(body);
+        if (email != null && !store.tryConsume(path + "|email|" + email, emailCapacity, emailPerMinute)) {
+            reject(response, path, "email", emailPerMinute);
+            return;
+        }
+
+        filterChain.doFilter(wrapped, response);
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null; // malformed JSON is rejected by the controller
+        }
+    }
+
+    private void reject(HttpServletResponse response, String path, String scope, double perMinute) throws IOException {
+        log.warn("Rate limit exceeded on {} ({})", path, scope);
+        long retryAfterSeconds = (long) Math.ceil(60 / perMinute);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Too many attempts, please try again later");
+    }
+
+    private void rejectTooLarge(HttpServletResponse response, String path) throws IOException {
+        log.warn("Oversized body refused on {}", path);
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Request body too large");
+    }
+}
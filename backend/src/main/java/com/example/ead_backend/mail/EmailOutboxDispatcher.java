@@ -0,0 +1,203 @@
+package com.example.ead_backend.mail;
+
+import com.example.ead_backend.model.enums.OutboxStatus;
+import com.example.ead_backend.repository.OutboxEmailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email_outbox table. Each pass claims a batch of due rows with a single
+ * conditional UPDATE, so replicas never send the same row twice while a claim holds,
+ * and hands the whole batch to {@link JavaMailSender#send(SimpleMailMessage...)}, which
+ * delivers it over one SMTP connection. Failed messages are retried with exponential
+ * backoff until {@code mail.outbox.max-attempts}, then marked FAILED.
+ * A claim left behind by a crashed replica lapses after {@link #CLAIM_TIMEOUT} and the
+ * row is picked up again, so delivery is at-least-once.
+ */
+@Component
+@ConditionalOnProperty(name = "mail.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final List<OutboxStatus> QUEUED = List.of(OutboxStatus.PENDING, OutboxStatus.SENDING);
+
+    private static final String DUE =
+            "((status = 'PENDING' AND next_attempt_at <= ?) OR (status = 'SENDING' AND claimed_until < ?))";
+
+    private static final String CLAIM_SQL =
+            "UPDATE email_outbox SET status = 'SENDING', claimed_by = ?, claimed_until = ? " +
+            "WHERE id IN (SELECT id FROM email_outbox WHERE " + DUE + " ORDER BY id LIMIT ?) AND " + DUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JavaMailSender mailSender;
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final String fromAddress;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxDispatcher(JdbcTemplate jdbcTemplate,
+                                 JavaMailSender mailSender,
+                                 OutboxEmailRepository outboxEmailRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${spring.mail.from:noreply@automobile.com}") String fromAddress,
+                                 @Value("${mail.outbox.batch-size:50}") int batchSize,
+                                 @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${mail.outbox.base-backoff-seconds:30}") long baseBackoffSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mailSender = mailSender;
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.fromAddress = fromAddress;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        Gauge.builder("email.outbox.queue.depth", queueDepth, AtomicLong::get)
+                .description("Emails waiting in the outbox or being sent")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("email.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("email.outbox.failed")
+                .description("Emails given up on after the last retry")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-ms:1000}")
+    public void dispatch() {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize);
+        } finally {
+            queueDepth.set(outboxEmailRepository.countByStatusIn(QUEUED));
+        }
+    }
+
+    /**
+     * Claims, sends and records one batch.
+     *
+     * @return number of rows claimed
+     */
+    int dispatchBatch() {
+        String claimId = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.from(Instant.now());
+        int claimed = jdbcTemplate.update(CLAIM_SQL, claimId, Timestamp.from(now.toInstant().plus(CLAIM_TIMEOUT)),
+                now, now, batchSize, now, now);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        List<Claimed> batch = jdbcTemplate.query(
+                "SELECT id, recipient, subject, body, attempts FROM email_outbox " +
+                "WHERE claimed_by = ? AND status = 'SENDING' ORDER BY id",
+                (rs, i) -> new Claimed(rs.getLong("id"), rs.getInt("attempts"), message(
+                        rs.getString("recipient"), rs.getString("subject"), rs.getString("body"))),
+                claimId);
+
+        Map<Object, Exception> failures = send(batch);
+        for (Claimed email : batch) {
+            Exception failure = failures.get(email.message());
+            if (failure == null) {
+                markSent(email);
+            } else {
+                markFailed(email, failure);
+            }
+        }
+        return claimed;
+    }
+
+    private Map<Object, Exception> send(List<Claimed> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(Claimed::message).toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(batch, e);
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing in the batch went out
+            return allFailed(batch, e);
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(List<Claimed> batch, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        batch.forEach(email -> failures.put(email.message(), e));
+        return failures;
+    }
+
+    private void markSent(Claimed email) {
+        jdbcTemplate.update(
+                "UPDATE email_outbox SET status = 'SENT', sent_at = ?, claimed_by = NULL, claimed_until = NULL " +
+                "WHERE id = ?",
+                Timestamp.from(Instant.now()), email.id());
+        sentCounter.increment();
+    }
+
+    private void markFailed(Claimed email, Exception failure) {
+        int attempts = email.attempts() + 1;
+        String error = failure.getMessage() == null ? failure.getClass().getName() : failure.getMessage();
+        if (error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+        boolean giveUp = attempts >= maxAttempts;
+        jdbcTemplate.update(
+                "UPDATE email_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, " +
+                "claimed_by = NULL, claimed_until = NULL WHERE id = ?",
+                giveUp ? OutboxStatus.FAILED.name() : OutboxStatus.PENDING.name(),
+                attempts, Timestamp.from(Instant.now().plus(backoff(attempts))), error, email.id());
+        if (giveUp) {
+            failedCounter.increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.id(), email.message().getTo()[0], attempts, error);
+        } else {
+            log.warn("Email {} failed (attempt {}), retrying later: {}", email.id(), attempts, error);
+        }
+    }
+
+    /**
+     * Base backoff doubled per failed attempt, capped at one hour.
+     */
+    Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private SimpleMailMessage message(String to, String subject, String body) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromAddress);
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setText(body);
+        return message;
+    }
+
+    private record Claimed(long id, int attempts, SimpleMailMessage message) {
+    }
+}
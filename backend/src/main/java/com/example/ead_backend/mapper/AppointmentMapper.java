@@ -1,25 +1,34 @@
 package com.example.ead_backend.mapper;
 
 import org.mapstruct.Mapper;
-import org.mapstruct.AfterMapping;
-import org.mapstruct.MappingTarget;
+import org.mapstruct.Mapping;
 
 import com.example.ead_backend.dto.AppointmentDTO;
 import com.example.ead_backend.model.entity.Appointment;
+import com.example.ead_backend.util.TimeFormats;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
 public interface AppointmentMapper {
     AppointmentDTO toDTO(Appointment entity);
+
+    // Both are derived by the entity itself before every write
+    @Mapping(target = "time", ignore = true)
+    @Mapping(target = "slotActive", ignore = true)
     Appointment toEntity(AppointmentDTO dto);
 
-    @AfterMapping
-    default void setLegacyTime(@MappingTarget Appointment entity, AppointmentDTO dto) {
-        if (entity == null) return;
-        String start = dto != null ? dto.getStartTime() : null;
-        String end = dto != null ? dto.getEndTime() : null;
-        String derived = (start != null && end != null)
-                ? start + "-" + end
-                : (start != null ? start : "00:00");
-        entity.setTime(derived);
+    default List<AppointmentDTO> toDTOs(List<Appointment> entities) {
+        return entities.stream().map(this::toDTO).collect(Collectors.toList());
+    }
+
+    default LocalTime toLocalTime(String value) {
+        return TimeFormats.parse(value);
+    }
+
+    default String fromLocalTime(LocalTime value) {
+        return TimeFormats.format(value);
     }
 }
@@ -4,12 +4,20 @@ import com.example.ead_backend.dto.AppointmentDTO;
 import com.example.ead_backend.dto.EmployeeDTO;
 import com.example.ead_backend.model.entity.Appointment;
 import com.example.ead_backend.model.entity.Employee;
-import com.example.ead_backend.model.entity.User;
 import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.util.TimeFormats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 // Fallback manual mapper (not a Spring bean). Kept only to avoid compile issues
 // when MapStruct processing is unavailable. MapStruct will generate the real bean.
 @Primary
@@ -21,30 +29,60 @@ public class AppointmentMapperManual implements AppointmentMapper {
 
     @Override
     public AppointmentDTO toDTO(Appointment entity) {
+        return toDTO(entity, userId -> userRepo.findById(userId)
+                .map(user -> user.getFirstName() + " " + user.getLastName())
+                .orElse(null));
+    }
+
+    /**
+     * Map a list of appointments, resolving every customer name with a single IN query
+     * instead of one lookup per appointment.
+     */
+    @Override
+    public List<AppointmentDTO> toDTOs(List<Appointment> entities) {
+        Set<Long> customerUserIds = new HashSet<>();
+        for (Appointment entity : entities) {
+            Long userId = parseUserId(entity.getCustomerId());
+            if (userId != null) {
+                customerUserIds.add(userId);
+            }
+        }
+
+        Map<Long, String> customerNames = new HashMap<>();
+        if (!customerUserIds.isEmpty()) {
+            for (UserRepo.UserNameView user : userRepo.findByIdIn(customerUserIds)) {
+                customerNames.put(user.getId(), user.getFirstName() + " " + user.getLastName());
+            }
+        }
+
+        List<AppointmentDTO> dtos = new ArrayList<>(entities.size());
+        for (Appointment entity : entities) {
+            dtos.add(toDTO(entity, customerNames::get));
+        }
+        return dtos;
+    }
+
+    private AppointmentDTO toDTO(Appointment entity, Function<Long, String> customerNameLookup) {
         if (entity == null) return null;
         AppointmentDTO dto = new AppointmentDTO();
         dto.setAppointmentId(entity.getAppointmentId());
         dto.setService(entity.getService());
         dto.setCustomerId(entity.getCustomerId());
         
-        // Fetch and set customer name from User entity
-        if (entity.getCustomerId() != null) {
-            try {
-                Long userId = Long.parseLong(entity.getCustomerId());
-                userRepo.findById(userId).ifPresent(user -> {
-                    String fullName = user.getFirstName() + " " + user.getLastName();
-                    dto.setCustomerName(fullName.trim());
-                });
-            } catch (NumberFormatException e) {
-                // If customerId is not a valid Long, skip customer name
+        // Resolve and set customer name from User entity
+        Long customerUserId = parseUserId(entity.getCustomerId());
+        if (customerUserId != null) {
+            String fullName = customerNameLookup.apply(customerUserId);
+            if (fullName != null) {
+                dto.setCustomerName(fullName.trim());
             }
         }
         
         dto.setVehicleId(entity.getVehicleId());
         dto.setVehicleNo(entity.getVehicleNo());
         dto.setDate(entity.getDate());
-        dto.setStartTime(entity.getStartTime());
-        dto.setEndTime(entity.getEndTime());
+        dto.setStartTime(TimeFormats.format(entity.getStartTime()));
+        dto.setEndTime(TimeFormats.format(entity.getEndTime()));
         dto.setStatus(entity.getStatus());
         
         // Map employee if present
@@ -68,6 +106,16 @@ public class AppointmentMapperManual implements AppointmentMapper {
         return dto;
     }
 
+    private static Long parseUserId(String customerId) {
+        if (customerId == null) return null;
+        try {
+            return Long.parseLong(customerId);
+        } catch (NumberFormatException e) {
+            // If customerId is not a valid Long, skip customer name
+            return null;
+        }
+    }
+
     @Override
     public Appointment toEntity(AppointmentDTO dto) {
         if (dto == null) return null;
@@ -78,12 +126,9 @@ public class AppointmentMapperManual implements AppointmentMapper {
         entity.setVehicleId(dto.getVehicleId());
         entity.setVehicleNo(dto.getVehicleNo());
         entity.setDate(dto.getDate());
-        entity.setStartTime(dto.getStartTime());
-        entity.setEndTime(dto.getEndTime());
-        // Set legacy 'time' column as a derived range to satisfy NOT NULL
-        String start = dto.getStartTime();
-        String end = dto.getEndTime();
-        entity.setTime((start != null && end != null) ? start + "-" + end : (start != null ? start : "00:00"));
+        entity.setStartTime(TimeFormats.parse(dto.getStartTime()));
+        entity.setEndTime(TimeFormats.parse(dto.getEndTime()));
+        // Legacy 'time' column is derived by the entity before it is written
         entity.setStatus(dto.getStatus());
         
         // Note: Employee mapping is typically handled by the service layer
@@ -0,0 +1,28 @@
+package com.example.ead_backend.messaging;
+
+import java.util.function.Consumer;
+
+/**
+ * Fire-and-forget broadcast channel between backend replicas.
+ * Every subscriber of a channel on every replica receives each published payload,
+ * including subscribers on the publishing replica.
+ */
+public interface MessageBus {
+
+    /**
+     * Broadcast a payload to all subscribers of a channel.
+     *
+     * @param channel the channel name
+     * @param payload the message body (kept small; PostgreSQL caps it at 8000 bytes)
+     */
+    void publish(String channel, String payload);
+
+    /**
+     * Register a listener for a channel. Listeners run on the bus's delivery thread
+     * and must not block.
+     *
+     * @param channel  the channel name
+     * @param listener receives each payload published on the channel
+     */
+    void subscribe(String channel, Consumer<String> listener);
+}
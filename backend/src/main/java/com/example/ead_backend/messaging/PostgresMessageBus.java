@@ -0,0 +1,153 @@
+package com.example.ead_backend.messaging;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Message bus on PostgreSQL LISTEN/NOTIFY, so replicas sharing the database can
+ * broadcast without another service.
+ * <p>
+ * A daemon thread holds one connection from the listener data source for the life of
+ * the bus, issues LISTEN for every subscribed channel and polls for notifications; it
+ * reconnects and re-listens if the connection drops. The listener data source should
+ * open connections outside the application pool, otherwise the bus permanently takes
+ * one of the pool's connections. Publishing uses {@code pg_notify} on a regular pooled
+ * connection; inside a transaction the notification is only delivered once it commits.
+ * Notifications sent while the listener is reconnecting are lost, so consumers should
+ * keep a TTL as a backstop.
+ */
+@Slf4j
+public class PostgresMessageBus implements MessageBus, DisposableBean {
+
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 2000;
+
+    private final DataSource listenerDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private Thread listenerThread;
+    private volatile boolean running;
+
+    public PostgresMessageBus(DataSource dataSource, DataSource listenerDataSource) {
+        this.listenerDataSource = listenerDataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "pg-message-bus");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void publish(String channel, String payload) {
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Void>) ps -> {
+            ps.setString(1, channel);
+            ps.setString(2, payload);
+            ps.execute();
+            return null;
+        });
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        // The listener thread notices the new channel on its next poll and issues LISTEN
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (listenerThread == null) {
+            return;
+        }
+        listenerThread.interrupt();
+        listenerThread.join(POLL_TIMEOUT_MILLIS * 2L);
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                Set<String> listening = new HashSet<>();
+                log.info("PostgreSQL message bus connected");
+
+                try {
+                    while (running) {
+                        for (String channel : listeners.keySet()) {
+                            if (listening.add(channel)) {
+                                try (Statement statement = connection.createStatement()) {
+                                    statement.execute("LISTEN " + quoteIdentifier(channel));
+                                }
+                            }
+                        }
+                        PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                        if (notifications != null) {
+                            for (PGNotification notification : notifications) {
+                                dispatch(notification.getName(), notification.getParameter());
+                            }
+                        }
+                    }
+                } finally {
+                    unlistenAll(connection);
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("PostgreSQL message bus connection lost, reconnecting: {}", e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String channel, String payload) {
+        for (Consumer<String> listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(payload);
+            } catch (RuntimeException e) {
+                log.error("Listener on channel {} failed", channel, e);
+            }
+        }
+    }
+
+    private static void unlistenAll(Connection connection) {
+        // If the listener data source pools its connections, closing only returns this one;
+        // without this its next borrower would keep receiving (and buffering) our notifications
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN *");
+        } catch (SQLException e) {
+            log.debug("UNLISTEN failed on a broken connection: {}", e.getMessage());
+        }
+    }
+
+    private static String quoteIdentifier(String channel) {
+        // pg_notify matches channel names exactly, so LISTEN must not case-fold them
+        return "\"" + channel.replace("\"", "\"\"") + "\"";
+    }
+}
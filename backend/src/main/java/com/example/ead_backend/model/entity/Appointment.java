@@ -3,13 +3,25 @@ package com.example.ead_backend.model.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import com.example.ead_backend.model.enums.AppointmentStatus;
 import org.hibernate.annotations.UuidGenerator;
 
 @Entity
-@Table(name = "Appointments")
+@Table(name = "Appointments", uniqueConstraints = {
+        // At most one non-cancelled appointment per slot; slot_active is NULL for cancelled
+        // rows and NULLs never collide, so cancelled bookings do not hold the slot
+        @UniqueConstraint(name = Appointment.ACTIVE_SLOT_CONSTRAINT, columnNames = {"date", "start_time", "slot_active"})
+}, indexes = {
+        // Listings by day and keyset pagination on (date, start_time)
+        @Index(name = "idx_appointments_date_start_time", columnList = "date, start_time, status"),
+        @Index(name = "idx_appointments_customer_date", columnList = "customer_id, date"),
+        @Index(name = "idx_appointments_employee_status", columnList = "employee_id, status")
+})
 @Data
 public class Appointment {
+    public static final String ACTIVE_SLOT_CONSTRAINT = "uk_appointments_active_slot";
+
     @Id
     @UuidGenerator
     @Column(columnDefinition = "VARCHAR(255)")
@@ -32,15 +44,15 @@ public class Appointment {
 
     // Start time (maps to DB column start_time)
     @Column(name = "start_time", nullable = false)
-    private String startTime;
+    private LocalTime startTime;
 
-    // Legacy column 'time' kept by existing DB; we persist a derived value to satisfy NOT NULL
+    // Legacy column 'time' kept by existing DB; derived from start/end before every write
     @Column(name = "time", nullable = false)
     private String time;
 
     // Some existing databases enforce a NOT NULL on end_time
     @Column(name = "end_time", nullable = false)
-    private String endTime;
+    private LocalTime endTime;
 
     @ManyToOne
     @JoinColumn(name = "employee_id")
@@ -49,4 +61,19 @@ public class Appointment {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AppointmentStatus status;
+
+    // TRUE while the appointment holds its slot, NULL once cancelled; derived from status
+    @Column(name = "slot_active")
+    private Boolean slotActive;
+
+    @PrePersist
+    @PreUpdate
+    void deriveColumns() {
+        if (startTime == null) {
+            time = "00:00";
+        } else {
+            time = endTime != null ? startTime + "-" + endTime : startTime.toString();
+        }
+        slotActive = status != AppointmentStatus.CANCELLED ? Boolean.TRUE : null;
+    }
 }
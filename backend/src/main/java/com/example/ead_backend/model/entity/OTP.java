@@ -4,13 +4,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "otp")
+@Table(name = "otp",
+        uniqueConstraints = @UniqueConstraint(name = "uk_otp_email", columnNames = "email"),
+        indexes = @Index(name = "idx_otp_expiry_time", columnList = "expiry_time"))
 public class OTP {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // One live OTP per email; the unique index also serves verification lookups
     @Column(nullable = false)
     private String email;
 
@@ -0,0 +1,45 @@
+package com.example.ead_backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * Materialized progress summary for an appointment or project.
+ * Maintained on every progress write so percentage reads are a primary-key lookup
+ * instead of a scan over the full progress_updates history.
+ */
+@Entity
+@Table(name = "progress_snapshot")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressSnapshot {
+
+    @Id
+    @Column(name = "appointment_id", columnDefinition = "VARCHAR(255)")
+    private String appointmentId;
+
+    @Column(name = "latest_stage", nullable = false, length = 100)
+    private String latestStage;
+
+    @Column(name = "latest_percentage", nullable = false)
+    private Integer latestPercentage;
+
+    /**
+     * Running sum of all recorded percentages, used for the average
+     */
+    @Column(name = "percentage_sum", nullable = false)
+    private Long percentageSum;
+
+    @Column(name = "update_count", nullable = false)
+    private Integer updateCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Timestamp updatedAt;
+}
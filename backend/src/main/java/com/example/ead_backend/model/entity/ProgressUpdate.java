@@ -15,7 +15,9 @@ import java.sql.Timestamp;
  * Tracks the stage, percentage completion, and remarks for service progress.
  */
 @Entity
-@Table(name = "progress_updates")
+@Table(name = "progress_updates", indexes = {
+        @Index(name = "idx_progress_updates_appointment_id", columnList = "appointment_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
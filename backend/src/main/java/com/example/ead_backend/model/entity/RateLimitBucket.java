@@ -0,0 +1,32 @@
+package com.example.ead_backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shared token bucket for the JDBC rate limit store.
+ * Mapped so the table is created with the schema; reads and writes go through
+ * {@link com.example.ead_backend.ratelimit.JdbcRateLimitStore}.
+ */
+@Entity
+@Table(name = "rate_limit_buckets", indexes = {
+        @Index(name = "idx_rate_limit_buckets_updated_at", columnList = "updated_at")
+})
+@Data
+@NoArgsConstructor
+public class RateLimitBucket {
+
+    @Id
+    @Column(name = "bucket_key", length = 320)
+    private String bucketKey;
+
+    @Column(name = "tokens", nullable = false)
+    private Double tokens;
+
+    /**
+     * Last refill time in epoch milliseconds
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Long updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.example.ead_backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Lease row for a scheduled job that must run on one replica at a time.
+ * Mapped so the table is created with the schema; acquired and released through
+ * {@link com.example.ead_backend.scheduling.JdbcLeaderLock}.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@NoArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "locked_by", nullable = false, length = 64)
+    private String lockedBy;
+}
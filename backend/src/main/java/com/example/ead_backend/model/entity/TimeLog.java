@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Entity
-@Table(name = "TimeLogs")
+@Table(name = "TimeLogs", indexes = {
+        @Index(name = "idx_time_logs_date", columnList = "date")
+})
 @Data
 public class TimeLog {
     @Id
@@ -18,10 +21,10 @@ public class TimeLog {
     private LocalDate date;
 
     @Column(name = "start_time", nullable = false)
-    private String startTime; // HH:mm
+    private LocalTime startTime;
 
     @Column(name = "end_time", nullable = false)
-    private String endTime; // HH:mm
+    private LocalTime endTime;
 
     @Column(nullable = false)
     private String type; // e.g., BLOCKED, MAINTENANCE
@@ -0,0 +1,26 @@
+package com.example.ead_backend.model.enums;
+
+/**
+ * Delivery state of a queued email.
+ */
+public enum OutboxStatus {
+    /**
+     * Waiting to be sent (first attempt or retry)
+     */
+    PENDING,
+
+    /**
+     * Claimed by a dispatcher; returns to the pool if the claim lapses
+     */
+    SENDING,
+
+    /**
+     * Accepted by the SMTP server
+     */
+    SENT,
+
+    /**
+     * Gave up after the maximum number of attempts
+     */
+    FAILED
+}
@@ -16,6 +16,11 @@ import java.sql.Timestamp;
 @AllArgsConstructor
 public class ProgressUpdateMessage {
 
+    /**
+     * ID of the progress update; increases with every update, so clients can resume with "events since"
+     */
+    private Long sequence;
+
     private String appointmentId;
     private String stage;
     private Integer percentage;
@@ -0,0 +1,45 @@
+package com.example.ead_backend.otp;
+
+import com.example.ead_backend.repository.OTPRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * OTP store on the otp table, shared by all replicas.
+ * Lookups use the unique email index; expired rows are removed in batches by
+ * {@link com.example.ead_backend.scheduling.ExpiryCleanupJob}.
+ */
+public class DatabaseOtpStore implements OtpStore {
+
+    private final OTPRepository otpRepository;
+
+    public DatabaseOtpStore(OTPRepository otpRepository) {
+        this.otpRepository = otpRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(String email, String otp, Duration ttl) {
+        LocalDateTime expiryTime = LocalDateTime.now().plus(ttl);
+        // Last save wins: replace the code if the email already has one
+        if (otpRepository.insertIfAbsent(email, otp, expiryTime) == 0) {
+            otpRepository.replace(email, otp, expiryTime);
+        }
+    }
+
+    @Override
+    public Result check(String email, String otp) {
+        return otpRepository.findByEmail(email)
+                .filter(entry -> InMemoryOtpStore.matches(entry.getOtp(), otp))
+                .map(entry -> entry.getExpiryTime().isAfter(LocalDateTime.now()) ? Result.VALID : Result.EXPIRED)
+                .orElse(Result.INVALID);
+    }
+
+    @Override
+    @Transactional
+    public void remove(String email) {
+        otpRepository.deleteAllByEmail(email);
+    }
+}
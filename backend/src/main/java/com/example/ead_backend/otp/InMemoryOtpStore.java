@@ -0,0 +1,73 @@
+package com.example.ead_backend.otp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Per-JVM OTP store. Caffeine's timer wheel removes each entry shortly after its own
+ * expiry, so nothing needs to scan for expired codes. Entries are kept for a short grace
+ * period past expiry so a late attempt is reported as expired rather than invalid.
+ * Only suitable for a single replica: the OTP must be verified where it was issued.
+ */
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final Duration GRACE = Duration.ofMinutes(10);
+
+    private final Cache<String, Entry> otps;
+
+    public InMemoryOtpStore(long maxEntries) {
+        this.otps = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String email, Entry entry, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), entry.expiresAt.plus(GRACE)).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(email, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void save(String email, String otp, Duration ttl) {
+        otps.put(email, new Entry(otp, Instant.now().plus(ttl)));
+    }
+
+    @Override
+    public Result check(String email, String otp) {
+        Entry entry = otps.getIfPresent(email);
+        if (entry == null || !matches(entry.otp, otp)) {
+            return Result.INVALID;
+        }
+        return entry.expiresAt.isAfter(Instant.now()) ? Result.VALID : Result.EXPIRED;
+    }
+
+    @Override
+    public void remove(String email) {
+        otps.invalidate(email);
+    }
+
+    static boolean matches(String expected, String actual) {
+        // Constant-time so response timing does not leak how many digits matched
+        return actual != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Entry(String otp, Instant expiresAt) {
+    }
+}
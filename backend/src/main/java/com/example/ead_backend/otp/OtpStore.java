@@ -0,0 +1,36 @@
+package com.example.ead_backend.otp;
+
+import java.time.Duration;
+
+/**
+ * Storage for password-reset OTPs; each email has at most one live OTP.
+ */
+public interface OtpStore {
+
+    enum Result {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    /**
+     * Store an OTP for an email, replacing any previous one.
+     *
+     * @param email the account email
+     * @param otp   the one-time code
+     * @param ttl   how long the code is valid
+     */
+    void save(String email, String otp, Duration ttl);
+
+    /**
+     * Check a code against the email's current OTP. Does not consume it.
+     *
+     * @return VALID, EXPIRED if the code matches but has expired, INVALID otherwise
+     */
+    Result check(String email, String otp);
+
+    /**
+     * Remove the email's OTP, e.g. once it has been used.
+     */
+    void remove(String email);
+}
@@ -0,0 +1,45 @@
+package com.example.ead_backend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-JVM token buckets. Buckets are updated with compare-and-set, so concurrent
+ * requests never block each other; idle buckets are evicted and the total number is
+ * bounded, so a flood of distinct IPs or emails cannot grow memory without limit.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicReference<Bucket>> buckets;
+
+    public InMemoryRateLimitStore(long maxBuckets, Duration idleExpiry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    @Override
+    public boolean tryConsume(String key, int capacity, double refillPerMinute) {
+        AtomicReference<Bucket> ref = buckets.get(key,
+                k -> new AtomicReference<>(new Bucket(capacity, System.nanoTime())));
+        double refillPerNano = refillPerMinute / Duration.ofMinutes(1).toNanos();
+        while (true) {
+            Bucket current = ref.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(capacity, current.tokens + (now - current.updatedAt) * refillPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            if (ref.compareAndSet(current, new Bucket(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    private record Bucket(double tokens, long updatedAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ead_backend.ratelimit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Token buckets in the rate_limit_buckets table, so limits hold across replicas.
+ * The first attempt on a key creates its bucket with one token already taken. Later
+ * attempts are a single UPDATE that refills, checks and takes a token atomically; an
+ * empty bucket matches no row and is left untouched. The conflict target is left out
+ * because bucket_key is the only unique constraint, which also lets the statements run
+ * on H2 in PostgreSQL mode.
+ */
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final String CREATE_SQL =
+            "INSERT INTO rate_limit_buckets (bucket_key, tokens, updated_at) VALUES (?, ?, ?) " +
+            "ON CONFLICT DO NOTHING";
+
+    private static final String CONSUME_SQL =
+            "UPDATE rate_limit_buckets SET " +
+            "tokens = LEAST(?, tokens + (? - updated_at) * ?) - 1, updated_at = ? " +
+            "WHERE bucket_key = ? AND LEAST(?, tokens + (? - updated_at) * ?) >= 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRateLimitStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean tryConsume(String key, int capacity, double refillPerMinute) {
+        double refillPerMilli = refillPerMinute / 60_000;
+        long now = System.currentTimeMillis();
+        if (jdbcTemplate.update(CREATE_SQL, key, capacity - 1.0, now) > 0) {
+            return true;
+        }
+        return jdbcTemplate.update(CONSUME_SQL,
+                capacity, now, refillPerMilli, now,
+                key, capacity, now, refillPerMilli) > 0;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ead_backend.ratelimit;
+
+/**
+ * Token-bucket state shared by the rate limiter.
+ * Each key has a bucket holding up to {@code capacity} tokens that refills continuously
+ * at {@code refillPerMinute}; a request is allowed if it can take one token.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Take one token from the bucket for {@code key}, creating a full bucket on first use.
+     *
+     * @param key             the bucket key (e.g. endpoint plus client IP)
+     * @param capacity        the maximum number of tokens (burst size)
+     * @param refillPerMinute tokens added per minute
+     * @return true if a token was taken, false if the bucket is empty
+     */
+    boolean tryConsume(String key, int capacity, double refillPerMinute);
+}
@@ -3,43 +3,65 @@ package com.example.ead_backend.repository;
 import com.example.ead_backend.model.entity.Appointment;
 import com.example.ead_backend.model.entity.Employee;
 import com.example.ead_backend.model.enums.AppointmentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, String> {
+    // Listing queries fetch the assigned employee and its user in the same select
+    @Override
+    @EntityGraph(attributePaths = {"employee", "employee.user", "employee.user.customer"})
+    List<Appointment> findAll();
+
+    @EntityGraph(attributePaths = {"employee", "employee.user", "employee.user.customer"})
     List<Appointment> findByCustomerId(String customerId);
     List<Appointment> findByDate(LocalDate date);
-    
-    // Check if a time slot is already booked (excluding cancelled appointments)
-    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Appointment a " +
-           "WHERE a.date = :date AND a.startTime = :startTime AND a.status != :cancelledStatus")
-    boolean existsByDateAndStartTimeAndStatusNot(
-        @Param("date") LocalDate date, 
-        @Param("startTime") String startTime,
-        @Param("cancelledStatus") AppointmentStatus cancelledStatus
-    );
+    List<Appointment> findByDateBetween(LocalDate from, LocalDate to);
     
     // Check if a customer already has an appointment at this date/time (excluding cancelled)
-    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Appointment a " +
-           "WHERE a.customerId = :customerId AND a.date = :date AND a.startTime = :startTime AND a.status != :cancelledStatus")
-    boolean existsByCustomerIdAndDateAndStartTimeAndStatusNot(
-        @Param("customerId") String customerId,
-        @Param("date") LocalDate date,
-        @Param("startTime") String startTime,
-        @Param("cancelledStatus") AppointmentStatus cancelledStatus
-    );
+    boolean existsByCustomerIdAndDateAndStartTimeAndStatusNot(String customerId, LocalDate date,
+                                                              LocalTime startTime, AppointmentStatus cancelledStatus);
     
     // Find appointments assigned to an employee
     List<Appointment> findByEmployee(Employee employee);
     
     // Find appointments assigned to an employee by employee ID
+    @EntityGraph(attributePaths = {"employee", "employee.user", "employee.user.customer"})
     List<Appointment> findByEmployeeId(Long employeeId);
     
     // Find appointments by employee ID and status
+    @EntityGraph(attributePaths = {"employee", "employee.user", "employee.user.customer"})
     List<Appointment> findByEmployeeIdAndStatus(Long employeeId, AppointmentStatus status);
+
+    // Keyset page ordered by (date, startTime, id); null filters are ignored and a null
+    // afterDate starts from the beginning. Page size comes from the Pageable, no count query.
+    @EntityGraph(attributePaths = {"employee", "employee.user", "employee.user.customer"})
+    @Query("SELECT a FROM Appointment a " +
+           "WHERE (:customerId IS NULL OR a.customerId = :customerId) " +
+           "AND (:employeeId IS NULL OR a.employee.id = :employeeId) " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:fromDate IS NULL OR a.date >= :fromDate) " +
+           "AND (:toDate IS NULL OR a.date <= :toDate) " +
+           "AND (:afterDate IS NULL OR a.date > :afterDate " +
+           "     OR (a.date = :afterDate AND a.startTime > :afterTime) " +
+           "     OR (a.date = :afterDate AND a.startTime = :afterTime AND a.appointmentId > :afterId)) " +
+           "ORDER BY a.date, a.startTime, a.appointmentId")
+    List<Appointment> findPage(
+        @Param("customerId") String customerId,
+        @Param("employeeId") Long employeeId,
+        @Param("status") AppointmentStatus status,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") String afterId,
+        Pageable pageable
+    );
 }
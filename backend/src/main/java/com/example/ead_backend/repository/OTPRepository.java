@@ -2,17 +2,40 @@ package com.example.ead_backend.repository;
 
 import com.example.ead_backend.model.entity.OTP;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface OTPRepository extends JpaRepository<OTP, Long> {
-    Optional<OTP> findByEmailAndOtp(String email, String otp);
     Optional<OTP> findByEmail(String email);
 
-    @Transactional
-    void deleteByEmail(String email);
-}
+    // Single-statement deletes; the derived deleteBy* variants load and delete row by row
+    @Modifying
+    @Query("DELETE FROM OTP o WHERE o.email = :email")
+    int deleteAllByEmail(@Param("email") String email);
+
+    /**
+     * Store the OTP for an email unless one already exists. A concurrent insert for the
+     * same email waits for the other transaction and then inserts nothing, instead of
+     * failing on uk_otp_email; the caller then replaces the stored code.
+     *
+     * @return the number of rows inserted (0 if the email already has an OTP)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO otp (email, otp, expiry_time) VALUES (:email, :otp, :expiryTime) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("email") String email,
+                       @Param("otp") String otp,
+                       @Param("expiryTime") LocalDateTime expiryTime);
 
+    @Modifying
+    @Query("UPDATE OTP o SET o.otp = :otp, o.expiryTime = :expiryTime WHERE o.email = :email")
+    int replace(@Param("email") String email,
+                @Param("otp") String otp,
+                @Param("expiryTime") LocalDateTime expiryTime);
+}
@@ -0,0 +1,17 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.OutboxEmail;
+import com.example.ead_backend.model.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository interface for OutboxEmail entity operations.
+ */
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    long countByStatusIn(Collection<OutboxStatus> statuses);
+}
@@ -0,0 +1,48 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.ProgressSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ProgressSnapshot entity operations.
+ */
+@Repository
+public interface ProgressSnapshotRepository extends JpaRepository<ProgressSnapshot, String> {
+
+    /**
+     * Fold a new progress update into an existing snapshot in a single statement,
+     * so concurrent updates for the same appointment cannot lose increments.
+     *
+     * @param appointmentId the appointment ID (UUID string)
+     * @param stage         the new latest stage
+     * @param percentage    the new latest percentage
+     * @return the number of rows updated (0 if no snapshot exists yet)
+     */
+    @Modifying
+    @Query("UPDATE ProgressSnapshot s SET s.latestStage = :stage, s.latestPercentage = :percentage, " +
+           "s.percentageSum = s.percentageSum + :percentage, s.updateCount = s.updateCount + 1, " +
+           "s.updatedAt = CURRENT_TIMESTAMP WHERE s.appointmentId = :appointmentId")
+    int applyUpdate(@Param("appointmentId") String appointmentId,
+                    @Param("stage") String stage,
+                    @Param("percentage") int percentage);
+
+    /**
+     * Create the snapshot for an appointment unless one already exists.
+     * A concurrent insert for the same appointment waits for the other transaction
+     * and then inserts nothing, instead of failing on the primary key. The conflict
+     * target is left out because the primary key is the only unique constraint.
+     *
+     * @return the number of rows inserted (0 if another transaction created the snapshot)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO progress_snapshot (appointment_id, latest_stage, latest_percentage, " +
+                   "percentage_sum, update_count, updated_at) " +
+                   "VALUES (:#{#s.appointmentId}, :#{#s.latestStage}, :#{#s.latestPercentage}, " +
+                   ":#{#s.percentageSum}, :#{#s.updateCount}, :#{#s.updatedAt}) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("s") ProgressSnapshot snapshot);
+}
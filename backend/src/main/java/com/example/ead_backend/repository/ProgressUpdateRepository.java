@@ -2,8 +2,11 @@ package com.example.ead_backend.repository;
 
 import com.example.ead_backend.model.entity.ProgressUpdate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +23,34 @@ public interface ProgressUpdateRepository extends JpaRepository<ProgressUpdate,
      * @return list of progress updates
      */
     List<ProgressUpdate> findByAppointmentIdOrderByCreatedAtAsc(String appointmentId);
+
+    /**
+     * Find the progress updates for an appointment recorded after a given update.
+     *
+     * @param appointmentId the appointment ID (UUID string)
+     * @param id            the last update ID the caller already has
+     * @return newer updates, oldest first
+     */
+    List<ProgressUpdate> findByAppointmentIdAndIdGreaterThanOrderByIdAsc(String appointmentId, Long id);
+
+    /**
+     * Find the latest progress percentage for each of the given appointments
+     * in a single query. Appointments without updates are not returned.
+     *
+     * @param appointmentIds the appointment IDs (UUID strings)
+     * @return one row per appointment that has progress updates
+     */
+    @Query("SELECT p.appointmentId AS appointmentId, p.percentage AS percentage FROM ProgressUpdate p " +
+           "WHERE p.id IN (SELECT MAX(p2.id) FROM ProgressUpdate p2 " +
+           "WHERE p2.appointmentId IN :appointmentIds GROUP BY p2.appointmentId)")
+    List<LatestProgress> findLatestByAppointmentIds(@Param("appointmentIds") Collection<String> appointmentIds);
+
+    /**
+     * Projection of the latest progress percentage for an appointment.
+     */
+    interface LatestProgress {
+        String getAppointmentId();
+
+        Integer getPercentage();
+    }
 }
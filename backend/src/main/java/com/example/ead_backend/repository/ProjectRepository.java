@@ -1,12 +1,40 @@
 package com.example.ead_backend.repository;
 
 import com.example.ead_backend.model.entity.Project;
+import com.example.ead_backend.model.enums.ProjectStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, String> {
     List<Project> findByCustomerId(String customerId);
     List<Project> findByEmployeeId(Long employeeId);
+    List<Project> findByEmployeeIdAndStatus(Long employeeId, ProjectStatus status);
+
+    // Keyset page ordered by (startDate, id); null filters are ignored and a null
+    // afterDate starts from the beginning. Page size comes from the Pageable, no count query.
+    @Query("SELECT p FROM Project p " +
+           "WHERE (:customerId IS NULL OR p.customerId = :customerId) " +
+           "AND (:employeeId IS NULL OR p.employee.id = :employeeId) " +
+           "AND (:status IS NULL OR p.status = :status) " +
+           "AND (:fromDate IS NULL OR p.startDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR p.startDate <= :toDate) " +
+           "AND (:afterDate IS NULL OR p.startDate > :afterDate " +
+           "     OR (p.startDate = :afterDate AND p.projectId > :afterId)) " +
+           "ORDER BY p.startDate, p.projectId")
+    List<Project> findPage(
+        @Param("customerId") String customerId,
+        @Param("employeeId") Long employeeId,
+        @Param("status") ProjectStatus status,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterId") String afterId,
+        Pageable pageable
+    );
 }
@@ -11,5 +11,7 @@ import java.util.List;
 public interface TimeLogRepository extends JpaRepository<TimeLog, String> {
     List<TimeLog> findByDate(LocalDate date);
 
+    List<TimeLog> findByDateBetween(LocalDate from, LocalDate to);
+
     List<TimeLog> findByDateAndType(LocalDate date, String type);
 }
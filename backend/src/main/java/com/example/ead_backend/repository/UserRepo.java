@@ -1,13 +1,32 @@
 package com.example.ead_backend.repository;
 
 import com.example.ead_backend.model.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepo extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // Loads the customer/employee profiles in the same query for identity snapshots
+    @EntityGraph(attributePaths = {"customer", "employee"})
+    Optional<User> findWithProfilesByEmail(String email);
+
+    @EntityGraph(attributePaths = {"customer", "employee"})
+    Optional<User> findWithProfilesById(Long id);
     boolean existsByEmail(String email);
+
+    // Name-only projection for list mappers; avoids loading the eager customer/employee associations
+    List<UserNameView> findByIdIn(Collection<Long> ids);
+
+    interface UserNameView {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+    }
 }
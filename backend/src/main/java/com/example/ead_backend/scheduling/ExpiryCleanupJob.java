@@ -0,0 +1,127 @@
+package com.example.ead_backend.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Periodically removes data that has outlived its purpose: expired OTPs, revoked and
+ * refresh tokens, idle rate-limit buckets, delivered outbox emails, old read notifications
+ * and progress history already folded into snapshots.
+ * Rows are deleted in batches of {@code cleanup.batch-size}, each in its own short
+ * statement, so no long-running lock is held. Only the replica holding the leader lock
+ * runs a given pass.
+ */
+@Component
+@ConditionalOnProperty(name = "cleanup.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ExpiryCleanupJob {
+
+    static final String LOCK_NAME = "expiry-cleanup";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcLeaderLock leaderLock;
+    private final int batchSize;
+    private final int notificationRetentionDays;
+    private final int progressHistoryRetentionDays;
+
+    public ExpiryCleanupJob(JdbcTemplate jdbcTemplate,
+                            JdbcLeaderLock leaderLock,
+                            @Value("${cleanup.batch-size:1000}") int batchSize,
+                            @Value("${cleanup.notifications.retention-days:30}") int notificationRetentionDays,
+                            @Value("${cleanup.progress-history.retention-days:365}") int progressHistoryRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderLock = leaderLock;
+        this.batchSize = batchSize;
+        this.notificationRetentionDays = notificationRetentionDays;
+        this.progressHistoryRetentionDays = progressHistoryRetentionDays;
+    }
+
+    /**
+     * A set-based delete run repeatedly until fewer than a batch of rows match.
+     *
+     * @param name   label for logging
+     * @param sql    DELETE taking the cutoff and the batch size as parameters
+     * @param cutoff rows older than this are removed
+     */
+    record Purge(String name, String sql, Object cutoff) {
+    }
+
+    @Scheduled(cron = "${cleanup.cron:0 */15 * * * *}")
+    public void run() {
+        if (!leaderLock.tryAcquire(LOCK_NAME, LEASE)) {
+            return;
+        }
+        try {
+            Instant deadline = Instant.now().plus(LEASE.minusMinutes(1));
+            for (Purge purge : purges(Instant.now())) {
+                int deleted = purge(purge, deadline);
+                if (deleted > 0) {
+                    log.info("Cleanup removed {} {}", deleted, purge.name());
+                }
+            }
+        } finally {
+            leaderLock.release(LOCK_NAME);
+        }
+    }
+
+    List<Purge> purges(Instant now) {
+        Timestamp nowTs = Timestamp.from(now);
+        return List.of(
+                new Purge("expired OTPs",
+                        "DELETE FROM otp WHERE id IN (SELECT id FROM otp WHERE expiry_time < ? LIMIT ?)",
+                        nowTs),
+                new Purge("expired revoked tokens",
+                        "DELETE FROM revoked_tokens WHERE jti IN " +
+                        "(SELECT jti FROM revoked_tokens WHERE expires_at < ? LIMIT ?)",
+                        nowTs),
+                new Purge("expired refresh tokens",
+                        "DELETE FROM refresh_tokens WHERE id IN " +
+                        "(SELECT id FROM refresh_tokens WHERE expires_at < ? LIMIT ?)",
+                        nowTs),
+                // An idle bucket has long since refilled, so dropping it changes nothing
+                new Purge("idle rate limit buckets",
+                        "DELETE FROM rate_limit_buckets WHERE bucket_key IN " +
+                        "(SELECT bucket_key FROM rate_limit_buckets WHERE updated_at < ? LIMIT ?)",
+                        now.minus(1, ChronoUnit.DAYS).toEpochMilli()),
+                new Purge("delivered outbox emails",
+                        "DELETE FROM email_outbox WHERE id IN " +
+                        "(SELECT id FROM email_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT ?)",
+                        Timestamp.from(now.minus(7, ChronoUnit.DAYS))),
+                new Purge("read notifications",
+                        "DELETE FROM notifications WHERE id IN " +
+                        "(SELECT id FROM notifications WHERE is_read = TRUE AND created_at < ? LIMIT ?)",
+                        Timestamp.from(now.minus(notificationRetentionDays, ChronoUnit.DAYS))),
+                // Only history whose totals already live in progress_snapshot is removed
+                new Purge("progress history entries",
+                        "DELETE FROM progress_updates WHERE id IN " +
+                        "(SELECT pu.id FROM progress_updates pu WHERE pu.created_at < ? AND EXISTS " +
+                        "(SELECT 1 FROM progress_snapshot s WHERE s.appointment_id = pu.appointment_id) LIMIT ?)",
+                        Timestamp.from(now.minus(progressHistoryRetentionDays, ChronoUnit.DAYS))));
+    }
+
+    private int purge(Purge purge, Instant deadline) {
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(purge.sql(), purge.cutoff(), batchSize);
+                total += deleted;
+            } while (deleted == batchSize && Instant.now().isBefore(deadline));
+        } catch (RuntimeException e) {
+            // One failing table must not stop the others
+            log.error("Cleanup of {} failed after {} rows", purge.name(), total, e);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.ead_backend.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Lease-based leader lock on the scheduler_locks table.
+ * A replica holds a named lock until it releases it or the lease runs out, so a crashed
+ * holder blocks the job for at most one lease. Each call is a single short statement;
+ * no transaction or connection is held while the job runs.
+ */
+@Component
+@Slf4j
+public class JdbcLeaderLock {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JdbcLeaderLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Try to take the lock.
+     *
+     * @param name  the lock name
+     * @param lease the longest the lock may be held
+     * @return true if this replica now holds the lock
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        Instant now = Instant.now();
+        Timestamp until = Timestamp.from(now.plus(lease));
+        int updated = jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_until = ?, locked_by = ? WHERE name = ? AND locked_until <= ?",
+                until, owner, name, Timestamp.from(now));
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(
+                    "INSERT INTO scheduler_locks (name, locked_until, locked_by) VALUES (?, ?, ?)",
+                    name, until, owner) > 0;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lock {} is held by another replica", name);
+            return false;
+        }
+    }
+
+    /**
+     * Release the lock if this replica holds it.
+     */
+    public void release(String name) {
+        jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?",
+                Timestamp.from(Instant.now()), name, owner);
+    }
+}
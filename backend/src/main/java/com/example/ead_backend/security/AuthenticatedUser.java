@@ -0,0 +1,53 @@
+package com.example.ead_backend.security;
+
+import com.example.ead_backend.model.entity.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal for JWT-authenticated requests, built from verified token claims
+ * so no database lookup is needed per request.
+ * {@link #getName()} returns the email, matching what controllers read from
+ * {@code Principal.getName()}.
+ *
+ * @param userId     the user's ID
+ * @param email      the user's email (JWT subject)
+ * @param role       CUSTOMER, EMPLOYEE or ADMIN; null if the user has no profile
+ * @param customerId the customer profile ID, null for non-customers
+ * @param employeeId the employee profile ID, null for non-employees
+ */
+public record AuthenticatedUser(Long userId, String email, String role, Long customerId, Long employeeId)
+        implements AuthenticatedPrincipal, Serializable {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    /**
+     * Snapshot a loaded user, using the same role rules as {@link User#getAuthorities()}.
+     */
+    public static AuthenticatedUser from(User user) {
+        String role = null;
+        if (user.getEmployee() != null) {
+            role = user.getEmployee().getRole().name();
+        } else if (user.getCustomer() != null) {
+            role = "CUSTOMER";
+        }
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                role,
+                user.getCustomer() != null ? user.getCustomer().getId() : null,
+                user.getEmployee() != null ? user.getEmployee().getId() : null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.ead_backend.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the password hashing executor is saturated and the request is shed
+ * instead of queueing behind other logins.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many concurrent password operations, please retry shortly");
+    }
+}
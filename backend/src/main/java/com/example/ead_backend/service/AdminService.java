@@ -2,21 +2,27 @@ package com.example.ead_backend.service;
 
 import com.example.ead_backend.dto.AppointmentDTO;
 import com.example.ead_backend.dto.CreateEmployeeRequest;
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.dto.CustomerDTO;
 import com.example.ead_backend.dto.EmployeeCreateDTO;
 import com.example.ead_backend.dto.EmployeeDTO;
 import com.example.ead_backend.dto.ProjectDTO;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import com.example.ead_backend.model.enums.ProjectStatus;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AdminService {
     EmployeeCreateDTO createEmployee(CreateEmployeeRequest request);
     
-    List<AppointmentDTO> getAllAppointments();
+    CursorPage<AppointmentDTO> getAppointments(Long employeeId, AppointmentStatus status,
+                                               LocalDate from, LocalDate to, String cursor, Integer limit);
     
     List<CustomerDTO> getAllCustomers();
     
     List<EmployeeDTO> getAllEmployees();
     
-    List<ProjectDTO> getAllProjects();
+    CursorPage<ProjectDTO> getProjects(Long employeeId, ProjectStatus status,
+                                       LocalDate from, LocalDate to, String cursor, Integer limit);
 }
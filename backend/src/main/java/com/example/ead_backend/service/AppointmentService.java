@@ -1,21 +1,31 @@
 package com.example.ead_backend.service;
 
 import java.util.List;
+import java.util.Map;
 import java.time.LocalDate;
 
 import com.example.ead_backend.dto.AppointmentDTO;
+import com.example.ead_backend.dto.CursorPage;
+import com.example.ead_backend.model.enums.AppointmentStatus;
 
 public interface AppointmentService {
     AppointmentDTO createAppointment(AppointmentDTO dto);
 
     AppointmentDTO getAppointmentById(String id);
 
-    List<AppointmentDTO> getAllAppointments();
+    /**
+     * Keyset-paginated listing ordered by date, start time and id.
+     * Null filters are ignored; a null cursor starts from the first row.
+     */
+    CursorPage<AppointmentDTO> getAppointmentsPage(String customerId, Long employeeId, AppointmentStatus status,
+                                                   LocalDate from, LocalDate to, String cursor, Integer limit);
 
     List<AppointmentDTO> getAppointmentsByCustomerId(String customerId);
     
     List<AppointmentDTO> getAppointmentsByEmployeeId(Long employeeId);
 
+    List<AppointmentDTO> getAppointmentsByEmployeeIdAndStatus(Long employeeId, AppointmentStatus status);
+
     AppointmentDTO updateAppointment(String id, AppointmentDTO dto);
     
     AppointmentDTO assignEmployeeToAppointment(String appointmentId, Long employeeId);
@@ -23,4 +33,6 @@ public interface AppointmentService {
     void deleteAppointment(String id);
 
     List<String> getBookedStartTimes(LocalDate date);
+
+    Map<LocalDate, Long> getBookedSlotMasks(LocalDate from, LocalDate to);
 }
@@ -1,24 +1,26 @@
 package com.example.ead_backend.service;
 
+import com.example.ead_backend.model.entity.OutboxEmail;
+import com.example.ead_backend.repository.OutboxEmailRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 
 /**
  * Service for sending email notifications.
+ * Emails are written to the email_outbox table in the caller's transaction and delivered
+ * by {@link com.example.ead_backend.mail.EmailOutboxDispatcher}, so callers never wait on SMTP
+ * and an email is only sent if the surrounding transaction commits.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-
-    @Value("${spring.mail.from:noreply@automobile.com}")
-    private String fromAddress;
+    private final OutboxEmailRepository outboxEmailRepository;
 
     /**
      * Send a progress update email to a user.
@@ -29,18 +31,10 @@ public class EmailService {
      */
     public void sendProgressEmail(String toEmail, String subject, String body) {
         try {
-            log.info("Sending progress email to {}", toEmail);
-
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromAddress);
-            message.setTo(toEmail);
-            message.setSubject(subject);
-            message.setText(body);
-
-            mailSender.send(message);
-            log.info("Email sent successfully to {}", toEmail);
+            enqueue(toEmail, subject, body);
+            log.info("Progress email queued for {}", toEmail);
         } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", toEmail, e.getMessage(), e);
+            log.error("Failed to queue email to {}: {}", toEmail, e.getMessage(), e);
             // Don't throw exception - email failure shouldn't break the flow
         }
     }
@@ -79,25 +73,28 @@ public class EmailService {
      */
     public void sendOTP(String to, String otp) {
         try {
-            log.info("Sending OTP email to {}", to);
-
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromAddress);
-            message.setTo(to);
-            message.setSubject("Password Reset OTP - Auto Mobile");
-            message.setText("Dear User,\n\n" +
+            enqueue(to, "Password Reset OTP - Auto Mobile",
+                    "Dear User,\n\n" +
                     "You have requested to reset your password.\n\n" +
                     "Your OTP for password reset is: " + otp + "\n\n" +
                     "This OTP is valid for 10 minutes.\n\n" +
                     "If you did not request this, please ignore this email.\n\n" +
                     "Best regards,\n" +
                     "Auto Mobile Team");
-
-            mailSender.send(message);
-            log.info("OTP email sent successfully to {}", to);
+            log.info("OTP email queued for {}", to);
         } catch (Exception e) {
-            log.error("Failed to send OTP email to {}: {}", to, e.getMessage(), e);
+            log.error("Failed to queue OTP email to {}: {}", to, e.getMessage(), e);
             throw new RuntimeException("Failed to send email: " + e.getMessage());
         }
     }
+
+    @Transactional
+    public void enqueue(String to, String subject, String body) {
+        outboxEmailRepository.save(OutboxEmail.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(Instant.now())
+                .build());
+    }
 }
@@ -1,22 +1,71 @@
 package com.example.ead_backend.service;
 
+import com.example.ead_backend.model.entity.ProgressSnapshot;
 import com.example.ead_backend.model.entity.ProgressUpdate;
+import com.example.ead_backend.repository.ProgressSnapshotRepository;
 import com.example.ead_backend.repository.ProgressUpdateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for calculating progress percentages based on recorded updates.
+ * Reads are served from the progress_snapshot table; the progress_updates history
+ * is only consulted for appointments recorded before snapshots existed.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProgressCalculationService {
 
+    private static final int ID_BATCH_SIZE = 1000;
+
     private final ProgressUpdateRepository progressUpdateRepository;
+    private final ProgressSnapshotRepository progressSnapshotRepository;
+
+    /**
+     * Fold a newly saved progress update into the appointment's snapshot.
+     * Must be called in the same transaction that saved the update.
+     *
+     * @param appointmentId the appointment ID (UUID string)
+     * @param stage         the recorded stage
+     * @param percentage    the recorded percentage
+     */
+    @Transactional
+    public void recordProgress(String appointmentId, String stage, int percentage) {
+        if (progressSnapshotRepository.applyUpdate(appointmentId, stage, percentage) > 0) {
+            return;
+        }
+
+        // First update since snapshots were introduced: seed from the full history once
+        List<ProgressUpdate> history = progressUpdateRepository.findByAppointmentIdOrderByCreatedAtAsc(appointmentId);
+        ProgressSnapshot snapshot = history.isEmpty()
+                ? ProgressSnapshot.builder()
+                        .appointmentId(appointmentId)
+                        .latestStage(stage)
+                        .latestPercentage(percentage)
+                        .percentageSum((long) percentage)
+                        .updateCount(1)
+                        .build()
+                : fromHistory(appointmentId, history);
+        snapshot.setUpdatedAt(Timestamp.from(Instant.now()));
+
+        if (progressSnapshotRepository.insertIfAbsent(snapshot) > 0) {
+            log.debug("Progress snapshot created for appointment {}", appointmentId);
+            return;
+        }
+        // A concurrent first update seeded the snapshot without seeing ours; fold ours in
+        progressSnapshotRepository.applyUpdate(appointmentId, stage, percentage);
+    }
 
     /**
      * Calculate the average progress percentage for an appointment.
@@ -26,18 +75,18 @@ public class ProgressCalculationService {
      * @return the calculated average percentage
      */
     public int calculateAverageProgress(String appointmentId) {
-        List<ProgressUpdate> updates = progressUpdateRepository.findByAppointmentIdOrderByCreatedAtAsc(appointmentId);
+        ProgressSnapshot snapshot = progressSnapshotRepository.findById(appointmentId)
+                .orElseGet(() -> {
+                    List<ProgressUpdate> updates = progressUpdateRepository.findByAppointmentIdOrderByCreatedAtAsc(appointmentId);
+                    return updates.isEmpty() ? null : fromHistory(appointmentId, updates);
+                });
 
-        if (updates.isEmpty()) {
+        if (snapshot == null) {
             log.debug("No progress updates found for appointment {}", appointmentId);
             return 0;
         }
 
-        int sum = updates.stream()
-                .mapToInt(ProgressUpdate::getPercentage)
-                .sum();
-
-        int average = sum / updates.size();
+        int average = (int) (snapshot.getPercentageSum() / snapshot.getUpdateCount());
         log.debug("Calculated average progress for appointment {}: {}%", appointmentId, average);
 
         return average;
@@ -50,12 +99,61 @@ public class ProgressCalculationService {
      * @return the latest percentage or 0 if no updates exist
      */
     public int getLatestProgress(String appointmentId) {
-        List<ProgressUpdate> updates = progressUpdateRepository.findByAppointmentIdOrderByCreatedAtAsc(appointmentId);
+        return progressSnapshotRepository.findById(appointmentId)
+                .map(ProgressSnapshot::getLatestPercentage)
+                .orElseGet(() -> getLatestFromHistory(List.of(appointmentId)).getOrDefault(appointmentId, 0));
+    }
 
-        if (updates.isEmpty()) {
-            return 0;
+    /**
+     * Get the latest progress percentage for many appointments at once.
+     * Issues one query per {@value #ID_BATCH_SIZE} IDs instead of one per appointment.
+     *
+     * @param appointmentIds the appointment IDs (UUID strings)
+     * @return latest percentage by appointment ID; appointments without updates are absent
+     */
+    public Map<String, Integer> getLatestProgress(Collection<String> appointmentIds) {
+        Map<String, Integer> latest = new HashMap<>();
+        if (appointmentIds.isEmpty()) {
+            return latest;
+        }
+
+        List<String> ids = new ArrayList<>(appointmentIds);
+        List<String> missing = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            progressSnapshotRepository.findAllById(batch)
+                    .forEach(snapshot -> latest.put(snapshot.getAppointmentId(), snapshot.getLatestPercentage()));
         }
+        for (String id : ids) {
+            if (!latest.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+
+        // Appointments without a snapshot may still have history from before snapshots existed
+        latest.putAll(getLatestFromHistory(missing));
+        return latest;
+    }
+
+    private Map<String, Integer> getLatestFromHistory(List<String> ids) {
+        Map<String, Integer> latest = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            progressUpdateRepository.findLatestByAppointmentIds(batch)
+                    .forEach(row -> latest.put(row.getAppointmentId(), row.getPercentage()));
+        }
+        return latest;
+    }
 
-        return updates.get(updates.size() - 1).getPercentage();
+    private static ProgressSnapshot fromHistory(String appointmentId, List<ProgressUpdate> history) {
+        ProgressUpdate last = history.get(history.size() - 1);
+        long sum = history.stream().mapToLong(ProgressUpdate::getPercentage).sum();
+        return ProgressSnapshot.builder()
+                .appointmentId(appointmentId)
+                .latestStage(last.getStage())
+                .latestPercentage(last.getPercentage())
+                .percentageSum(sum)
+                .updateCount(history.size())
+                .build();
     }
 }
@@ -1,15 +1,23 @@
 package com.example.ead_backend.service;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.dto.ProjectDTO;
+import com.example.ead_backend.model.enums.ProjectStatus;
 
 public interface ProjectService {
     ProjectDTO createProject(ProjectDTO dto);
 
     ProjectDTO getProjectById(String id);
 
-    List<ProjectDTO> getAllProjects();
+    /**
+     * Keyset-paginated listing ordered by start date and id.
+     * Null filters are ignored; a null cursor starts from the first row.
+     */
+    CursorPage<ProjectDTO> getProjectsPage(String customerId, Long employeeId, ProjectStatus status,
+                                           LocalDate from, LocalDate to, String cursor, Integer limit);
 
     List<ProjectDTO> getProjectsByCustomerId(String customerId);
 
@@ -20,4 +28,6 @@ public interface ProjectService {
     ProjectDTO assignEmployeeToProject(String projectId, Long employeeId);
 
     List<ProjectDTO> getProjectsByEmployeeId(Long employeeId);
+
+    List<ProjectDTO> getProjectsByEmployeeIdAndStatus(Long employeeId, ProjectStatus status);
 }
@@ -1,15 +1,21 @@
 package com.example.ead_backend.service;
 
+import com.example.ead_backend.dto.ServiceDTO;
 import com.example.ead_backend.model.entity.*;
+import com.example.ead_backend.model.enums.AppointmentStatus;
 import com.example.ead_backend.repository.*;
+import com.example.ead_backend.util.TimeFormats;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,7 +28,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RAGService {
 
-    private final ServiceRepository serviceRepository;
+    private final ServiceService serviceService;
     private final AppointmentRepository appointmentRepository;
     private final EmployeeRepository employeeRepository;
 
@@ -40,15 +46,20 @@ public class RAGService {
             // Always include basic company info
             context.append(getCompanyInfo()).append("\n\n");
 
+            // Several intents need the service catalog; it is added to the context at most once
+            boolean servicesAdded = false;
+
             // Detect intent and retrieve relevant context
             if (containsKeywords(lowerQuestion, "service", "services", "offer", "available", "type", "kind")) {
                 log.debug("Adding services context");
                 context.append(getServicesContext()).append("\n\n");
+                servicesAdded = true;
             }
 
-            if (containsKeywords(lowerQuestion, "price", "cost", "charge", "fee", "expensive", "cheap")) {
+            if (!servicesAdded && containsKeywords(lowerQuestion, "price", "cost", "charge", "fee", "expensive", "cheap")) {
                 log.debug("Adding price context");
                 context.append(getServicesContext()).append("\n\n");
+                servicesAdded = true;
             }
 
             if (containsKeywords(lowerQuestion, "slot", "time", "available", "schedule", "appointment", "book",
@@ -69,9 +80,10 @@ public class RAGService {
                 context.append(getEmployeesContext()).append("\n\n");
             }
 
-            if (containsKeywords(lowerQuestion, "duration", "long", "take", "time required")) {
+            if (!servicesAdded && containsKeywords(lowerQuestion, "duration", "long", "take", "time required")) {
                 log.debug("Adding duration context");
                 context.append(getServicesContext()).append("\n\n");
+                servicesAdded = true;
             }
 
             if (containsKeywords(lowerQuestion, "contact", "location", "address", "phone", "email", "reach")) {
@@ -82,7 +94,9 @@ public class RAGService {
             // If no specific context was added, provide general information
             if (context.length() < 200) {
                 log.debug("Adding default context (services and slots)");
-                context.append(getServicesContext()).append("\n\n");
+                if (!servicesAdded) {
+                    context.append(getServicesContext()).append("\n\n");
+                }
                 context.append(getAvailableSlotsContext()).append("\n\n");
             }
 
@@ -116,8 +130,8 @@ public class RAGService {
 
     private String getServicesContext() {
         try {
-            log.debug("Fetching services from database...");
-            List<com.example.ead_backend.model.entity.Service> services = serviceRepository.findByActiveTrue();
+            // Served from the catalog cache, so chat messages do not hit the database
+            List<ServiceDTO> services = serviceService.getActiveServices();
             log.debug("Found {} active services", services.size());
 
             if (services.isEmpty()) {
@@ -125,7 +139,7 @@ public class RAGService {
             }
 
             StringBuilder sb = new StringBuilder("=== AVAILABLE SERVICES ===\n");
-            for (com.example.ead_backend.model.entity.Service service : services) {
+            for (ServiceDTO service : services) {
                 sb.append(String.format("- %s\n", service.getName()));
 
                 if (service.getDescription() != null && !service.getDescription().isEmpty()) {
@@ -171,17 +185,16 @@ public class RAGService {
             sb.append("We are open Monday - Saturday, 9:00 AM - 6:00 PM\n");
             sb.append("Appointments are scheduled in 30-minute slots\n\n");
 
-            // Get all appointments - we can't use date range easily without appointmentTime
-            // field
-            // So we'll get all appointments and filter by date
-            List<Appointment> allAppointments = appointmentRepository.findAll();
-
-            // Filter appointments for the next 14 days
-            List<Appointment> existingAppointments = allAppointments.stream()
-                    .filter(apt -> apt.getDate() != null &&
-                            !apt.getDate().isBefore(today) &&
-                            !apt.getDate().isAfter(endDate))
-                    .toList();
+            // Occupied slots per day for active appointments in the window, one ranged query
+            Map<LocalDate, Long> bookedSlots = new HashMap<>();
+            for (Appointment apt : appointmentRepository.findByDateBetween(today, endDate)) {
+                AppointmentStatus status = apt.getStatus();
+                if (status == AppointmentStatus.REQUESTING ||
+                        status == AppointmentStatus.ASSIGNED ||
+                        status == AppointmentStatus.IN_PROGRESS) {
+                    bookedSlots.merge(apt.getDate(), SlotOccupancyIndex.slotBit(apt.getStartTime()), (a, b) -> a | b);
+                }
+            }
 
             int daysShown = 0;
             int maxDaysToShow = 7; // Show up to 7 business days
@@ -208,34 +221,11 @@ public class RAGService {
                             // This is the last slot (5:30 PM)
                         }
 
-                        final int currentHour = hour;
-                        final int currentMinute = minute;
-                        String timeSlot = String.format("%02d:%02d", currentHour, currentMinute);
+                        LocalTime slotStart = LocalTime.of(hour, minute);
+                        String timeSlot = TimeFormats.format(slotStart);
 
                         // Check if this slot is already booked
-                        boolean isBooked = existingAppointments.stream()
-                                .anyMatch(apt -> {
-                                    if (apt.getDate() != null &&
-                                            apt.getDate().equals(date) &&
-                                            apt.getStartTime() != null &&
-                                            (apt.getStatus().toString().equals("REQUESTING") ||
-                                                    apt.getStatus().toString().equals("ASSIGNED") ||
-                                                    apt.getStatus().toString().equals("IN_PROGRESS"))) {
-
-                                        // Parse the start time and compare the hour and minute
-                                        try {
-                                            String startTime = apt.getStartTime();
-                                            // Handle formats like "09:00", "9:00", "09:30", "9:30"
-                                            String[] parts = startTime.split(":");
-                                            int appointmentHour = Integer.parseInt(parts[0]);
-                                            int appointmentMinute = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
-                                            return appointmentHour == currentHour && appointmentMinute == currentMinute;
-                                        } catch (Exception e) {
-                                            return false;
-                                        }
-                                    }
-                                    return false;
-                                });
+                        boolean isBooked = (bookedSlots.getOrDefault(date, 0L) & SlotOccupancyIndex.slotBit(slotStart)) != 0;
 
                         if (!isBooked) {
                             availableTimesForDay.add(timeSlot);
@@ -307,7 +297,7 @@ public class RAGService {
                     sb.append(String.format("- %s on %s at %s (Status: %s)\n",
                             appointment.getService(),
                             appointment.getDate().format(DATE_FORMATTER),
-                            appointment.getStartTime(),
+                            TimeFormats.format(appointment.getStartTime()),
                             appointment.getStatus()));
                     if (appointment.getEmployee() != null && appointment.getEmployee().getUser() != null) {
                         String employeeName = appointment.getEmployee().getUser().getFirstName() + " " +
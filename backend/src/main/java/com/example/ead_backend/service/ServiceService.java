@@ -1,5 +1,6 @@
 package com.example.ead_backend.service;
 
+import com.example.ead_backend.dto.ServiceCatalog;
 import com.example.ead_backend.dto.ServiceDTO;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -35,6 +36,11 @@ public interface ServiceService {
      * Get all active services (for customer selection)
      */
     List<ServiceDTO> getActiveServices();
+
+    /**
+     * Get the active services with the entity tag of their serialized form
+     */
+    ServiceCatalog getActiveServiceCatalog();
     
     /**
      * Update service without changing image
@@ -0,0 +1,166 @@
+package com.example.ead_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory occupancy index for appointment slots.
+ * Each day is stored as a 48-bit mask where bit {@code n} marks the 30-minute slot
+ * starting at {@code n * 30} minutes after midnight. Entries are invalidated whenever an
+ * appointment or time log for that day changes and are reloaded on the next read.
+ * <p>
+ * Each date carries a generation that every invalidation bumps. A loader reads the
+ * generation before querying and its result is only stored if no invalidation happened
+ * in between, so a load racing a write cannot put the pre-write mask back.
+ */
+@Component
+@Slf4j
+public class SlotOccupancyIndex {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private static final String[] SLOT_LABELS = new String[SLOTS_PER_DAY];
+
+    static {
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            int minutes = slot * SLOT_MINUTES;
+            SLOT_LABELS[slot] = String.format("%02d:%02d", minutes / 60, minutes % 60);
+        }
+    }
+
+    private final ConcurrentHashMap<LocalDate, DayEntry> days = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public SlotOccupancyIndex(@Value("${appointments.availability.cache-ttl-seconds:30}") long ttlSeconds) {
+        // Other replicas can book slots too, so entries expire even without local writes
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Get the occupancy mask for a date, loading it with {@code loader} on a miss.
+     *
+     * @param date   the appointment date
+     * @param loader computes the mask from the database
+     * @return the slot mask for the date
+     */
+    public long getMask(LocalDate date, ToLongFunction<LocalDate> loader) {
+        long now = System.currentTimeMillis();
+        DayEntry entry = days.get(date);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.mask;
+        }
+        long generation = generation(date);
+        long mask = loader.applyAsLong(date);
+        put(date, mask, generation);
+        return mask;
+    }
+
+    /**
+     * The current generation of a date; read it before loading a mask to store with
+     * {@link #put(LocalDate, long, long)}.
+     *
+     * @param date the appointment date
+     * @return the generation, bumped by every {@link #invalidate(LocalDate)}
+     */
+    public long generation(LocalDate date) {
+        DayEntry entry = days.get(date);
+        return entry != null ? entry.generation : 0L;
+    }
+
+    /**
+     * Get the cached mask for a date without loading it.
+     *
+     * @param date the appointment date
+     * @return the slot mask, or null if the date is not cached or has expired
+     */
+    public Long peek(LocalDate date) {
+        DayEntry entry = days.get(date);
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.mask : null;
+    }
+
+    /**
+     * Store a freshly computed mask for a date unless the date was invalidated since
+     * the load started.
+     *
+     * @param date       the appointment date
+     * @param mask       the slot mask
+     * @param generation the date's generation read before the mask was loaded
+     * @return true if the mask was stored, false if it was discarded as stale
+     */
+    public boolean put(LocalDate date, long mask, long generation) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        boolean[] stored = new boolean[1];
+        days.compute(date, (d, current) -> {
+            long currentGeneration = current != null ? current.generation : 0L;
+            if (currentGeneration != generation) {
+                return current;
+            }
+            stored[0] = true;
+            return new DayEntry(mask, expiresAt, generation);
+        });
+        if (!stored[0]) {
+            log.debug("Discarded slot occupancy for {} loaded before an invalidation", date);
+        }
+        return stored[0];
+    }
+
+    /**
+     * Drop the cached mask for a date so the next read reloads it.
+     *
+     * @param date the appointment date (ignored if null)
+     */
+    public void invalidate(LocalDate date) {
+        if (date != null) {
+            // Keep an expired entry so the bumped generation outlives the mask
+            days.compute(date, (d, current) -> new DayEntry(0L, 0L, current != null ? current.generation + 1 : 1L));
+            log.debug("Slot occupancy invalidated for {}", date);
+        }
+    }
+
+    /**
+     * Bit for the slot containing the given time.
+     */
+    public static long slotBit(LocalTime time) {
+        return 1L << ((time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES);
+    }
+
+    /**
+     * Bits for every slot overlapping the half-open interval {@code [start, end)}.
+     */
+    public static long rangeMask(LocalTime start, LocalTime end) {
+        int first = (start.getHour() * 60 + start.getMinute()) / SLOT_MINUTES;
+        int endMinutes = end.getHour() * 60 + end.getMinute();
+        int last = (endMinutes + SLOT_MINUTES - 1) / SLOT_MINUTES; // exclusive
+        if (last <= first) {
+            return 0L;
+        }
+        long upTo = last >= 64 ? -1L : (1L << last) - 1;
+        return upTo & ~((1L << first) - 1);
+    }
+
+    /**
+     * Expand a mask into "HH:mm" slot start labels.
+     */
+    public static List<String> toStartTimes(long mask) {
+        List<String> times = new ArrayList<>(Long.bitCount(mask));
+        long remaining = mask;
+        while (remaining != 0) {
+            int slot = Long.numberOfTrailingZeros(remaining);
+            times.add(SLOT_LABELS[slot]);
+            remaining &= remaining - 1;
+        }
+        return times;
+    }
+
+    private record DayEntry(long mask, long expiresAt, long generation) {
+    }
+}
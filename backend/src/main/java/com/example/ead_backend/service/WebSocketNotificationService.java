@@ -4,26 +4,33 @@ import com.example.ead_backend.dto.ProgressResponse;
 import com.example.ead_backend.model.entity.Notification;
 import com.example.ead_backend.model.message.NotificationMessage;
 import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import com.example.ead_backend.websocket.ClusterBrokerRelay;
+import com.example.ead_backend.websocket.ProgressBroadcastCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 
 /**
  * Service for broadcasting notifications via WebSocket.
+ * Messages go through {@link ClusterBrokerRelay}, so subscribers connected to any replica receive them.
+ * Progress updates are additionally coalesced per appointment by {@link ProgressBroadcastCoalescer}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketNotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterBrokerRelay brokerRelay;
+    private final ProgressBroadcastCoalescer progressCoalescer;
 
     /**
      * Broadcast a progress update to all subscribers of a specific appointment.
+     * Inside a transaction the update is queued only once it commits.
      *
      * @param appointmentId the appointment ID (UUID string)
      * @param response      the progress response
@@ -32,6 +39,7 @@ public class WebSocketNotificationService {
         log.info("Broadcasting progress update for appointment {}", appointmentId);
 
         ProgressUpdateMessage message = ProgressUpdateMessage.builder()
+                .sequence(response.getId())
                 .appointmentId(appointmentId)
                 .stage(response.getStage())
                 .percentage(response.getPercentage())
@@ -40,14 +48,20 @@ public class WebSocketNotificationService {
                 .timestamp(Timestamp.from(Instant.now()))
                 .build();
 
-        String destination = "/topic/progress." + appointmentId;
-        messagingTemplate.convertAndSend(destination, message);
-
-        log.debug("Progress update broadcasted to {}", destination);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    progressCoalescer.submit(message);
+                }
+            });
+        } else {
+            progressCoalescer.submit(message);
+        }
     }
 
     /**
-     * Send a notification to a specific user.
+     * Send a notification to a specific user's sessions on {@code /user/queue/notifications}.
      *
      * @param userId       the user ID
      * @param notification the notification entity
@@ -62,8 +76,9 @@ public class WebSocketNotificationService {
                 .timestamp(notification.getCreatedAt())
                 .build();
 
-        String destination = "/topic/notifications." + userId;
-        messagingTemplate.convertAndSend(destination, message);
+        // Each replica resolves the user's own sessions; replicas where the user is not connected drop it
+        String destination = "/user/" + userId + "/queue/notifications";
+        brokerRelay.send(destination, message);
 
         log.debug("Notification sent to {}", destination);
     }
@@ -2,6 +2,7 @@ package com.example.ead_backend.service.impl;
 
 import com.example.ead_backend.dto.AppointmentDTO;
 import com.example.ead_backend.dto.CreateEmployeeRequest;
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.dto.CustomerDTO;
 import com.example.ead_backend.dto.EmployeeCreateDTO;
 import com.example.ead_backend.dto.EmployeeDTO;
@@ -9,6 +10,8 @@ import com.example.ead_backend.dto.ProjectDTO;
 import com.example.ead_backend.model.entity.Customer;
 import com.example.ead_backend.model.entity.Employee;
 import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import com.example.ead_backend.model.enums.ProjectStatus;
 import com.example.ead_backend.model.enums.Role;
 import com.example.ead_backend.repository.CustomerRepository;
 import com.example.ead_backend.repository.EmployeeRepository;
@@ -78,8 +81,9 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    public List<AppointmentDTO> getAllAppointments() {
-        return appointmentService.getAllAppointments();
+    public CursorPage<AppointmentDTO> getAppointments(Long employeeId, AppointmentStatus status,
+                                                      LocalDate from, LocalDate to, String cursor, Integer limit) {
+        return appointmentService.getAppointmentsPage(null, employeeId, status, from, to, cursor, limit);
     }
 
     @Override
@@ -112,7 +116,8 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    public List<ProjectDTO> getAllProjects() {
-        return projectService.getAllProjects();
+    public CursorPage<ProjectDTO> getProjects(Long employeeId, ProjectStatus status,
+                                              LocalDate from, LocalDate to, String cursor, Integer limit) {
+        return projectService.getProjectsPage(null, employeeId, status, from, to, cursor, limit);
     }
 }
@@ -2,7 +2,9 @@ package com.example.ead_backend.service.impl;
 
 import com.example.ead_backend.service.AppointmentService;
 import com.example.ead_backend.service.ProgressCalculationService;
+import com.example.ead_backend.service.SlotOccupancyIndex;
 import com.example.ead_backend.dto.AppointmentDTO;
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.model.entity.Appointment;
 import com.example.ead_backend.model.entity.Employee;
 import com.example.ead_backend.model.entity.TimeLog;
@@ -11,44 +13,49 @@ import com.example.ead_backend.repository.AppointmentRepository;
 import com.example.ead_backend.repository.EmployeeRepository;
 import com.example.ead_backend.repository.TimeLogRepository;
 import com.example.ead_backend.mapper.AppointmentMapper;
+import com.example.ead_backend.util.KeysetCursor;
+import com.example.ead_backend.util.TimeFormats;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 
 @Service
 @RequiredArgsConstructor
 public class AppointmentServiceImpl implements AppointmentService {
 
+    private static final int MAX_AVAILABILITY_RANGE_DAYS = 62;
+
     private final AppointmentRepository appointmentRepository;
     private final EmployeeRepository employeeRepository;
     private final TimeLogRepository timeLogRepository;
     private final AppointmentMapper appointmentMapper;
     private final ProgressCalculationService progressCalculationService;
+    private final SlotOccupancyIndex slotOccupancyIndex;
 
     @Override
     public AppointmentDTO createAppointment(AppointmentDTO dto) {
-         // Enforce unique slot per date (by start time), excluding cancelled appointments
-        LocalDate date = dto.getDate();
-        String start = dto.getStartTime();
-        if (date != null && start != null && appointmentRepository.existsByDateAndStartTimeAndStatusNot(date, start, AppointmentStatus.CANCELLED)) {
-            throw new IllegalStateException("Time slot already booked for this date");
-        }
         Appointment entity = appointmentMapper.toEntity(dto);
         // ensure new fields are copied (mapper should handle this if configured)
         entity.setCustomerId(dto.getCustomerId());
         entity.setVehicleId(dto.getVehicleId());
         // Set default status to REQUESTING for new appointments
         entity.setStatus(AppointmentStatus.REQUESTING);
-        Appointment saved = appointmentRepository.save(entity);
+        // One slot per date/start time is enforced by the database, so concurrent bookings cannot both win
+        Appointment saved = saveClaimingSlot(entity);
+        slotOccupancyIndex.invalidate(saved.getDate());
         return appointmentMapper.toDTO(saved);
     }
 
@@ -60,98 +67,68 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
-    public List<AppointmentDTO> getAllAppointments() {
-        return appointmentRepository.findAll()
-                .stream()
-                .map(appointment -> {
-                    AppointmentDTO dto = appointmentMapper.toDTO(appointment);
-                    // Populate progress percentage from progress tracking system
-                    try {
-                        int percentage = progressCalculationService.getLatestProgress(appointment.getAppointmentId());
-                        dto.setProgressPercentage(percentage);
-                    } catch (Exception e) {
-                        // If no progress data exists, default to 0
-                        dto.setProgressPercentage(0);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<AppointmentDTO> getAppointmentsPage(String customerId, Long employeeId, AppointmentStatus status,
+                                                          LocalDate from, LocalDate to, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        KeysetCursor after = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Appointment> rows = appointmentRepository.findPage(customerId, employeeId, status, from, to,
+                after != null ? after.date() : null,
+                after != null ? TimeFormats.parse(after.time()) : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Appointment last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getDate(), TimeFormats.format(last.getStartTime()), last.getAppointmentId()).encode();
+        }
+        return new CursorPage<>(toDTOsWithProgress(rows), nextCursor);
     }
 
     @Override
     public List<AppointmentDTO> getAppointmentsByCustomerId(String customerId) {
-        return appointmentRepository.findByCustomerId(customerId)
-                .stream()
-                .map(appointment -> {
-                    AppointmentDTO dto = appointmentMapper.toDTO(appointment);
-                    // Populate progress percentage from progress tracking system
-                    try {
-                        int percentage = progressCalculationService.getLatestProgress(appointment.getAppointmentId());
-                        dto.setProgressPercentage(percentage);
-                    } catch (Exception e) {
-                        // If no progress data exists, default to 0
-                        dto.setProgressPercentage(0);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOsWithProgress(appointmentRepository.findByCustomerId(customerId));
     }
 
     @Override
     public AppointmentDTO updateAppointment(String id, AppointmentDTO dto) {
         Appointment existing = appointmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Appointment not found with id " + id));
-                 LocalDate newDate = dto.getDate();
-        String newStart = dto.getStartTime();
-        if (newDate != null && newStart != null) {
-            boolean slotTaken = appointmentRepository.existsByDateAndStartTimeAndStatusNot(newDate, newStart, AppointmentStatus.CANCELLED);
-            // allow updating to same slot the record already has
-            boolean sameSlot = newDate.equals(existing.getDate()) && newStart.equals(existing.getStartTime());
-            if (slotTaken && !sameSlot) {
-                throw new IllegalStateException("Time slot already booked for this date");
-            }
-        }
-
+        LocalDate previousDate = existing.getDate();
         existing.setService(dto.getService());
     existing.setCustomerId(dto.getCustomerId());
     existing.setVehicleId(dto.getVehicleId());
         existing.setVehicleNo(dto.getVehicleNo());
         existing.setDate(dto.getDate());
-        existing.setStartTime(dto.getStartTime());
-        existing.setEndTime(dto.getEndTime());
-        // Update legacy 'time' to satisfy NOT NULL constraint
-        String start = dto.getStartTime();
-        String end = dto.getEndTime();
-        String derived = (start != null && end != null) ? start + "-" + end : (start != null ? start : "00:00");
-        existing.setTime(derived);
+        existing.setStartTime(TimeFormats.parse(dto.getStartTime()));
+        existing.setEndTime(TimeFormats.parse(dto.getEndTime()));
         existing.setStatus(dto.getStatus());
 
-        Appointment updated = appointmentRepository.save(existing);
+        Appointment updated = saveClaimingSlot(existing);
+        slotOccupancyIndex.invalidate(previousDate);
+        slotOccupancyIndex.invalidate(updated.getDate());
         return appointmentMapper.toDTO(updated);
     }
 
     @Override
     public void deleteAppointment(String id) {
-        appointmentRepository.deleteById(id);
+        appointmentRepository.findById(id).ifPresent(appointment -> {
+            appointmentRepository.delete(appointment);
+            slotOccupancyIndex.invalidate(appointment.getDate());
+        });
     }
 
     @Override
     public List<AppointmentDTO> getAppointmentsByEmployeeId(Long employeeId) {
-        return appointmentRepository.findByEmployeeId(employeeId)
-                .stream()
-                .map(appointment -> {
-                    AppointmentDTO dto = appointmentMapper.toDTO(appointment);
-                    // Populate progress percentage from progress tracking system
-                    try {
-                        int percentage = progressCalculationService.getLatestProgress(appointment.getAppointmentId());
-                        dto.setProgressPercentage(percentage);
-                    } catch (Exception e) {
-                        // If no progress data exists, default to 0
-                        dto.setProgressPercentage(0);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOsWithProgress(appointmentRepository.findByEmployeeId(employeeId));
+    }
+
+    @Override
+    public List<AppointmentDTO> getAppointmentsByEmployeeIdAndStatus(Long employeeId, AppointmentStatus status) {
+        return toDTOsWithProgress(appointmentRepository.findByEmployeeIdAndStatus(employeeId, status));
     }
 
     @Override
@@ -169,56 +146,113 @@ public class AppointmentServiceImpl implements AppointmentService {
         return appointmentMapper.toDTO(updated);
     }
 
+    /**
+     * Save and flush so the active-slot unique constraint is checked now, turning a
+     * concurrent booking of the same slot into the usual "already booked" error.
+     */
+    private Appointment saveClaimingSlot(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveSlotViolation(e)) {
+                throw new IllegalStateException("Time slot already booked for this date");
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isActiveSlotViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Appointment.ACTIVE_SLOT_CONSTRAINT);
+    }
+
+    /**
+     * Map appointments to DTOs with customer names and progress percentages resolved in batched lookups.
+     */
+    private List<AppointmentDTO> toDTOsWithProgress(List<Appointment> appointments) {
+        Map<String, Integer> progress = progressCalculationService.getLatestProgress(
+                appointments.stream().map(Appointment::getAppointmentId).collect(Collectors.toSet()));
+
+        List<AppointmentDTO> dtos = appointmentMapper.toDTOs(appointments);
+        // Appointments without progress data default to 0
+        dtos.forEach(dto -> dto.setProgressPercentage(progress.getOrDefault(dto.getAppointmentId(), 0)));
+        return dtos;
+    }
+
     @Override
     public List<String> getBookedStartTimes(LocalDate date) {
-        // 1) Appointment-based bookings (exclude CANCELLED)
-        List<String> bookedFromAppointments = appointmentRepository.findByDate(date)
-                .stream()
-                .filter(a -> a.getStatus() != AppointmentStatus.CANCELLED)
-                .map(Appointment::getStartTime)
-                .collect(Collectors.toList());
-
-        // 2) TimeLog-based blocked intervals expanded into 30-minute slot starts
-        List<TimeLog> logs = timeLogRepository.findByDate(date);
-        Set<String> bookedFromLogs = new HashSet<>();
-        for (TimeLog log : logs) {
-            LocalTime start = LocalTime.parse(safeHHMM(log.getStartTime()));
-            LocalTime end = LocalTime.parse(safeHHMM(log.getEndTime()));
-            for (LocalTime t = start; !t.isAfter(end.minusMinutes(30)); t = t.plusMinutes(30)) {
-                bookedFromLogs.add(toHHMM(t));
+        return SlotOccupancyIndex.toStartTimes(slotOccupancyIndex.getMask(date, this::loadBookedSlotMask));
+    }
+
+    @Override
+    public Map<LocalDate, Long> getBookedSlotMasks(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_RANGE_DAYS) {
+            throw new IllegalArgumentException("Availability range is limited to " + MAX_AVAILABILITY_RANGE_DAYS + " days");
+        }
+
+        // Serve straight from the index when every day is already cached
+        Map<LocalDate, Long> masks = new LinkedHashMap<>();
+        boolean allCached = true;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            Long cached = slotOccupancyIndex.peek(d);
+            if (cached == null) {
+                allCached = false;
+                break;
             }
+            masks.put(d, cached);
+        }
+        if (allCached) {
+            return masks;
         }
 
-        // 3) Merge and return unique HH:mm values
-        Set<String> all = new HashSet<>(bookedFromAppointments);
-        all.addAll(bookedFromLogs);
-        return new ArrayList<>(all);
-    }
-
-    private static String toHHMM(LocalTime t) {
-        return String.format("%02d:%02d", t.getHour(), t.getMinute());
-    }
-
-    private static String safeHHMM(String t) {
-        if (t == null) return "00:00";
-        String s = t.trim();
-        if (s.contains("-")) s = s.split("-")[0].trim();
-        if (s.matches("^\\d{1,2}:\\d{2}\\s*[AaPp][Mm]$")) {
-            // convert 12h to 24h
-            String[] parts = s.split(" ");
-            String[] hm = parts[0].split(":");
-            int h = Integer.parseInt(hm[0]);
-            String m = hm[1];
-            String mer = parts[1].toUpperCase();
-            if (mer.equals("PM") && h != 12) h += 12;
-            if (mer.equals("AM") && h == 12) h = 0;
-            return String.format("%02d:%s", h, m);
+        // One ranged query per table, merged with the same rules as a single day.
+        // Generations are read first so days invalidated during the queries are not stored
+        masks.clear();
+        Map<LocalDate, Long> generations = new HashMap<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            masks.put(d, 0L);
+            generations.put(d, slotOccupancyIndex.generation(d));
         }
-        // strip seconds if any
-        if (s.matches("^\\d{2}:\\d{2}:\\d{2}$")) return s.substring(0,5);
-        // pad hour if needed
-        if (s.matches("^\\d{1}:\\d{2}$")) return "0" + s;
-        return s;
+        for (Appointment appointment : appointmentRepository.findByDateBetween(from, to)) {
+            masks.merge(appointment.getDate(), appointmentSlotBit(appointment), (a, b) -> a | b);
+        }
+        for (TimeLog log : timeLogRepository.findByDateBetween(from, to)) {
+            masks.merge(log.getDate(), timeLogSlotMask(log), (a, b) -> a | b);
+        }
+        masks.forEach((date, mask) -> slotOccupancyIndex.put(date, mask, generations.get(date)));
+        return masks;
+    }
+
+    /**
+     * Build the occupancy mask for a date from appointments (excluding CANCELLED)
+     * and TimeLog-based blocked intervals.
+     */
+    private long loadBookedSlotMask(LocalDate date) {
+        long mask = 0L;
+        for (Appointment appointment : appointmentRepository.findByDate(date)) {
+            mask |= appointmentSlotBit(appointment);
+        }
+        for (TimeLog log : timeLogRepository.findByDate(date)) {
+            mask |= timeLogSlotMask(log);
+        }
+        return mask;
+    }
+
+    private static long appointmentSlotBit(Appointment appointment) {
+        // Appointment-based bookings (exclude CANCELLED); a start off the half-hour grid,
+        // e.g. 09:15, occupies and is reported as the slot containing it ("09:00")
+        if (appointment.getStatus() == AppointmentStatus.CANCELLED) return 0L;
+        return SlotOccupancyIndex.slotBit(appointment.getStartTime());
+    }
+
+    private static long timeLogSlotMask(TimeLog log) {
+        // TimeLog-based blocked intervals cover every slot they overlap, so 09:00-10:15 also
+        // blocks 10:00 (slots used to stop at the last one ending by the log's end)
+        return SlotOccupancyIndex.rangeMask(log.getStartTime(), log.getEndTime());
     }
 
 }
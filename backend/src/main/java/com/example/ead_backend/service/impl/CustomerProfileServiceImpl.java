@@ -1,15 +1,18 @@
 package com.example.ead_backend.service.impl;
 
+import com.example.ead_backend.config.CacheConfig;
 import com.example.ead_backend.dto.CustomerProfileDTO;
 import com.example.ead_backend.dto.UpdateCustomerProfileRequest;
 import com.example.ead_backend.model.entity.Customer;
 import com.example.ead_backend.model.entity.User;
 import com.example.ead_backend.repository.CustomerRepository;
 import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.security.AuthenticatedUser;
 import com.example.ead_backend.service.LocalFileStorageService;
 import com.example.ead_backend.service.CustomerProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,6 +28,7 @@ public class CustomerProfileServiceImpl implements CustomerProfileService {
     private final CustomerRepository customerRepository;
     private final UserRepo userRepository;
     private final LocalFileStorageService fileStorageService;
+    private final UserService userService;
 
     @Override
     public CustomerProfileDTO getCustomerProfileByUserId(Long userId) {
@@ -53,17 +57,21 @@ public class CustomerProfileServiceImpl implements CustomerProfileService {
     public CustomerProfileDTO getCustomerProfileByEmail(String email) {
         log.info("Fetching customer profile for email: {}", email);
         
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+        // Identity comes from the cache; only the profile itself is read from the database
+        AuthenticatedUser identity = userService.getIdentity(email);
+        if (identity.customerId() == null) {
+            throw new RuntimeException("Customer not found for email: " + email);
+        }
         
-        Customer customer = customerRepository.findByUserId(user.getId())
+        Customer customer = customerRepository.findById(identity.customerId())
                 .orElseThrow(() -> new RuntimeException("Customer not found for email: " + email));
         
-        return mapToDTO(customer, user);
+        return mapToDTO(customer, customer.getUser());
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_IDENTITY, key = "#result.email")
     public CustomerProfileDTO updateCustomerProfile(Long userId, UpdateCustomerProfileRequest request) {
         log.info("Updating customer profile for user ID: {}", userId);
         
@@ -1,10 +1,12 @@
 package com.example.ead_backend.service.impl;
 
+import com.example.ead_backend.config.CacheConfig;
 import com.example.ead_backend.model.entity.Customer;
 import com.example.ead_backend.model.entity.User;
 import com.example.ead_backend.repository.CustomerRepository;
 import com.example.ead_backend.service.CustomerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ public class CustomerServiceImpl implements CustomerService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_IDENTITY, key = "#user.email")
     public Customer createCustomer(User user, String phoneNumber) {
         Customer customer = new Customer(user, phoneNumber);
         return customerRepository.save(customer);
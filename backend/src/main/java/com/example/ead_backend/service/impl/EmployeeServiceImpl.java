@@ -1,11 +1,13 @@
 package com.example.ead_backend.service.impl;
 
+import com.example.ead_backend.config.CacheConfig;
 import com.example.ead_backend.model.entity.Employee;
 import com.example.ead_backend.model.entity.User;
 import com.example.ead_backend.model.enums.Role;
 import com.example.ead_backend.repository.EmployeeRepository;
 import com.example.ead_backend.service.EmployeeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_IDENTITY, key = "#user.email")
     public Employee createEmployee(User user, Role role, LocalDate joinedDate) {
         if (role != Role.ADMIN && role != Role.EMPLOYEE) {
             throw new IllegalArgumentException("Invalid role for employee");
@@ -1,24 +1,27 @@
 package com.example.ead_backend.service.impl;
 
-import com.example.ead_backend.model.entity.OTP;
+import com.example.ead_backend.config.CacheConfig;
 import com.example.ead_backend.model.entity.User;
-import com.example.ead_backend.repository.OTPRepository;
+import com.example.ead_backend.otp.OtpStore;
 import com.example.ead_backend.repository.UserRepo;
 import com.example.ead_backend.service.EmailService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-import java.util.Random;
+import java.security.SecureRandom;
+import java.time.Duration;
 
 @Service
 public class PasswordResetService {
 
+    private static final Duration OTP_TTL = Duration.ofMinutes(10);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     @Autowired
-    private OTPRepository otpRepository;
+    private OtpStore otpStore;
 
     @Autowired
     private UserRepo userRepo;
@@ -29,47 +32,34 @@ public class PasswordResetService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     @Transactional
     public void generateAndSendOTP(String email) {
         // Check if user exists
         User user = userRepo.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("No user found with this email address"));
 
-        // Generate 6-digit OTP
-        String otp = String.format("%06d", new Random().nextInt(999999));
-
-        // Delete any existing OTP for this email
-        otpRepository.deleteByEmail(email);
-
-        // Create new OTP entity
-        OTP otpEntity = new OTP();
-        otpEntity.setEmail(email);
-        otpEntity.setOtp(otp);
-        otpEntity.setExpiryTime(LocalDateTime.now().plusMinutes(10)); // Valid for 10 minutes
-        otpRepository.save(otpEntity);
+        // Generate 6-digit OTP; replaces any existing OTP for this email
+        String otp = String.format("%06d", RANDOM.nextInt(1_000_000));
+        otpStore.save(email, otp, OTP_TTL);
 
         // Send OTP via email
         emailService.sendOTP(email, otp);
     }
 
     public boolean verifyOTP(String email, String otp) {
-        Optional<OTP> otpEntity = otpRepository.findByEmailAndOtp(email, otp);
-
-        if (otpEntity.isPresent()) {
-            OTP otpRecord = otpEntity.get();
-            // Check if OTP is still valid (not expired)
-            if (otpRecord.getExpiryTime().isAfter(LocalDateTime.now())) {
-                return true;
-            } else {
-                // OTP expired, delete it
-                otpRepository.deleteByEmail(email);
-                throw new RuntimeException("OTP has expired. Please request a new one.");
-            }
+        OtpStore.Result result = otpStore.check(email, otp);
+        if (result == OtpStore.Result.EXPIRED) {
+            otpStore.remove(email);
+            throw new RuntimeException("OTP has expired. Please request a new one.");
         }
-        return false;
+        return result == OtpStore.Result.VALID;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_IDENTITY, key = "#email")
     public void resetPassword(String email, String otp, String newPassword) {
         // Verify OTP
         if (!verifyOTP(email, otp)) {
@@ -83,22 +73,15 @@ public class PasswordResetService {
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepo.save(user);
+        // Sessions started with the old password must not be refreshed
+        refreshTokenService.revokeAllForUser(user.getId());
 
         // Delete used OTP
-        otpRepository.deleteByEmail(email);
-    }
-
-    @Transactional
-    public void deleteExpiredOTPs() {
-        // This method can be called periodically to clean up expired OTPs
-        otpRepository.findAll().forEach(otp -> {
-            if (otp.getExpiryTime().isBefore(LocalDateTime.now())) {
-                otpRepository.delete(otp);
-            }
-        });
+        otpStore.remove(email);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_IDENTITY, key = "#email")
     public void changePassword(String email, String oldPassword, String newPassword) {
         // Find user
         User user = userRepo.findByEmail(email)
@@ -117,5 +100,7 @@ public class PasswordResetService {
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepo.save(user);
+        // Sessions started with the old password must not be refreshed
+        refreshTokenService.revokeAllForUser(user.getId());
     }
 }
@@ -51,6 +51,9 @@ public class ProgressServiceImpl implements ProgressService {
         ProgressUpdate saved = progressUpdateRepository.save(progressUpdate);
         log.debug("Progress update saved with ID: {}", saved.getId());
 
+        // Keep the latest/average snapshot in step with the history
+        progressCalculationService.recordProgress(appointmentId, request.getStage(), request.getPercentage());
+
         // Update appointment or project status based on progress stage
         try {
             updateAppointmentStatus(appointmentId, request.getStage(), request.getPercentage());
@@ -87,7 +90,7 @@ public class ProgressServiceImpl implements ProgressService {
             log.error("Failed to broadcast progress update via WebSocket: {}", e.getMessage());
         }
 
-        // Send email notification (async in real scenario)
+        // Queue email notification; it is sent after this transaction commits
         try {
             emailService.sendProgressUpdateNotification(
                     "customer@example.com", // Should fetch from appointment/customer
@@ -2,17 +2,23 @@ package com.example.ead_backend.service.impl;
 
 import com.example.ead_backend.service.ProjectService;
 import com.example.ead_backend.service.ProgressCalculationService;
+import com.example.ead_backend.dto.CursorPage;
 import com.example.ead_backend.dto.ProjectDTO;
 import com.example.ead_backend.model.entity.Project;
 import com.example.ead_backend.model.entity.Employee;
+import com.example.ead_backend.model.enums.ProjectStatus;
 import com.example.ead_backend.repository.ProjectRepository;
 import com.example.ead_backend.repository.EmployeeRepository;
 import com.example.ead_backend.mapper.ProjectMapper;
+import com.example.ead_backend.util.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,41 +46,29 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public List<ProjectDTO> getAllProjects() {
-        return projectRepository.findAll()
-                .stream()
-                .map(project -> {
-                    ProjectDTO dto = projectMapper.toDTO(project);
-                    // Populate progress percentage from progress tracking system
-                    try {
-                        int percentage = progressCalculationService.getLatestProgress(project.getProjectId());
-                        dto.setProgressPercentage(percentage);
-                    } catch (Exception e) {
-                        // If no progress data exists, default to 0
-                        dto.setProgressPercentage(0);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<ProjectDTO> getProjectsPage(String customerId, Long employeeId, ProjectStatus status,
+                                                  LocalDate from, LocalDate to, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        KeysetCursor after = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Project> rows = projectRepository.findPage(customerId, employeeId, status, from, to,
+                after != null ? after.date() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Project last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getStartDate(), null, last.getProjectId()).encode();
+        }
+        return new CursorPage<>(toDTOsWithProgress(rows), nextCursor);
     }
 
     @Override
     public List<ProjectDTO> getProjectsByCustomerId(String customerId) {
-        return projectRepository.findByCustomerId(customerId)
-                .stream()
-                .map(project -> {
-                    ProjectDTO dto = projectMapper.toDTO(project);
-                    // Populate progress percentage from progress tracking system
-                    try {
-                        int percentage = progressCalculationService.getLatestProgress(project.getProjectId());
-                        dto.setProgressPercentage(percentage);
-                    } catch (Exception e) {
-                        // If no progress data exists, default to 0
-                        dto.setProgressPercentage(0);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOsWithProgress(projectRepository.findByCustomerId(customerId));
     }
 
     @Override
@@ -115,18 +109,26 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public List<ProjectDTO> getProjectsByEmployeeId(Long employeeId) {
-        return projectRepository.findByEmployeeId(employeeId)
-                .stream()
+        return toDTOsWithProgress(projectRepository.findByEmployeeId(employeeId));
+    }
+
+    @Override
+    public List<ProjectDTO> getProjectsByEmployeeIdAndStatus(Long employeeId, ProjectStatus status) {
+        return toDTOsWithProgress(projectRepository.findByEmployeeIdAndStatus(employeeId, status));
+    }
+
+    /**
+     * Map projects to DTOs with progress percentages resolved in one batched lookup.
+     */
+    private List<ProjectDTO> toDTOsWithProgress(List<Project> projects) {
+        Map<String, Integer> progress = progressCalculationService.getLatestProgress(
+                projects.stream().map(Project::getProjectId).collect(Collectors.toSet()));
+
+        return projects.stream()
                 .map(project -> {
                     ProjectDTO dto = projectMapper.toDTO(project);
-                    // Populate progress percentage from progress tracking system
-                    try {
-                        int percentage = progressCalculationService.getLatestProgress(project.getProjectId());
-                        dto.setProgressPercentage(percentage);
-                    } catch (Exception e) {
-                        // If no progress data exists, default to 0
-                        dto.setProgressPercentage(0);
-                    }
+                    // Projects without progress data default to 0
+                    dto.setProgressPercentage(progress.getOrDefault(project.getProjectId(), 0));
                     return dto;
                 })
                 .collect(Collectors.toList());
@@ -0,0 +1,124 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.model.entity.RefreshToken;
+import com.example.ead_backend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ * Access tokens are short-lived and verified statelessly; this is the only part of
+ * the session that touches the database, and only when a client refreshes.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-token-ttl-days:14}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    /**
+     * Result of a successful rotation.
+     *
+     * @param userId       the token owner
+     * @param refreshToken the replacement refresh token
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    /**
+     * Start a new token family for a fresh login.
+     *
+     * @return the raw refresh token to hand to the client
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new one. Each token can be used once; replaying an
+     * already used token revokes every token in its family.
+     *
+     * @throws IllegalArgumentException if the token is unknown, expired, used or revoked
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String rawToken) {
+        Instant now = Instant.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            // Either stolen and replayed, or revoked by logout: kill the whole family
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, family {} revoked", token.getUserId(), token.getFamilyId());
+            throw new IllegalArgumentException("Refresh token has already been used");
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new IllegalArgumentException("Refresh token has expired");
+        }
+
+        return new Rotation(token.getUserId(), issue(token.getUserId(), token.getFamilyId()));
+    }
+
+    /**
+     * Revoke the family a refresh token belongs to (logout). Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    /**
+     * Revoke every refresh token of a user, e.g. after a password change, so sessions
+     * started with the old password cannot be refreshed.
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllForUser(userId, Instant.now());
+        log.info("Revoked {} refresh tokens for user {}", revoked, userId);
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(Instant.now().plus(ttl))
+                .build());
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
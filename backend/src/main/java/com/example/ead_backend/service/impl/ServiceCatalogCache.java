@@ -0,0 +1,69 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.config.CacheConfig;
+import com.example.ead_backend.dto.ServiceCatalog;
+import com.example.ead_backend.dto.ServiceDTO;
+import com.example.ead_backend.mapper.ServiceMapper;
+import com.example.ead_backend.model.entity.Service;
+import com.example.ead_backend.repository.ServiceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+
+/**
+ * Cached catalog reads behind ServiceServiceImpl.
+ * Entries are shared by every caller, so ServiceServiceImpl hands out copies and
+ * never these instances; the writes in ServiceServiceImpl evict these caches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceCatalogCache {
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceMapper serviceMapper;
+    private final ObjectMapper objectMapper;
+
+    @Cacheable(CacheConfig.SERVICES_BY_ID)
+    public ServiceDTO getById(Long id) {
+        log.info("Fetching service with ID: {}", id);
+
+        Service service = serviceRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Service not found with ID: " + id));
+
+        return serviceMapper.toDTO(service);
+    }
+
+    @Cacheable(CacheConfig.SERVICES_ALL)
+    public List<ServiceDTO> getAll() {
+        log.info("Fetching all services");
+
+        return serviceRepository.findAll()
+                .stream()
+                .map(serviceMapper::toDTO)
+                .toList();
+    }
+
+    @Cacheable(CacheConfig.SERVICES_ACTIVE)
+    public ServiceCatalog getActive() {
+        log.info("Fetching active services");
+
+        List<ServiceDTO> services = serviceRepository.findByActiveTrue()
+                .stream()
+                .map(serviceMapper::toDTO)
+                .toList();
+        // A digest of the serialized body, so any visible change produces a new tag
+        try {
+            return new ServiceCatalog(services,
+                    "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(services)) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the service catalog", e);
+        }
+    }
+}
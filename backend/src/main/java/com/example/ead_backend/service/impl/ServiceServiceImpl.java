@@ -1,5 +1,7 @@
 package com.example.ead_backend.service.impl;
 
+import com.example.ead_backend.config.CacheConfig;
+import com.example.ead_backend.dto.ServiceCatalog;
 import com.example.ead_backend.dto.ServiceDTO;
 import com.example.ead_backend.mapper.ServiceMapper;
 import com.example.ead_backend.model.entity.Service;
@@ -8,16 +10,18 @@ import com.example.ead_backend.service.LocalFileStorageService;
 import com.example.ead_backend.service.ServiceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * Implementation of ServiceService for managing predefined services
+ * Implementation of ServiceService for managing predefined services.
+ * Catalog reads are cached in ServiceCatalogCache and handed out as copies, so callers cannot
+ * alter the shared entries; every write evicts the whole catalog since it changes rarely.
  */
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
@@ -27,9 +31,11 @@ public class ServiceServiceImpl implements ServiceService {
     private final ServiceRepository serviceRepository;
     private final ServiceMapper serviceMapper;
     private final LocalFileStorageService fileStorageService;
+    private final ServiceCatalogCache serviceCatalogCache;
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.SERVICES_ACTIVE, CacheConfig.SERVICES_ALL, CacheConfig.SERVICES_BY_ID}, allEntries = true)
     public ServiceDTO createService(ServiceDTO serviceDTO) {
         log.info("Creating service: {}", serviceDTO.getName());
         
@@ -47,6 +53,7 @@ public class ServiceServiceImpl implements ServiceService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.SERVICES_ACTIVE, CacheConfig.SERVICES_ALL, CacheConfig.SERVICES_BY_ID}, allEntries = true)
     public ServiceDTO createServiceWithImage(ServiceDTO serviceDTO, MultipartFile image) throws IOException {
         log.info("Creating service with image: {}", serviceDTO.getName());
         
@@ -73,36 +80,28 @@ public class ServiceServiceImpl implements ServiceService {
 
     @Override
     public ServiceDTO getServiceById(Long id) {
-        log.info("Fetching service with ID: {}", id);
-        
-        Service service = serviceRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Service not found with ID: " + id));
-        
-        return serviceMapper.toDTO(service);
+        return copy(serviceCatalogCache.getById(id));
     }
 
     @Override
     public List<ServiceDTO> getAllServices() {
-        log.info("Fetching all services");
-        
-        return serviceRepository.findAll()
-                .stream()
-                .map(serviceMapper::toDTO)
-                .collect(Collectors.toList());
+        return serviceCatalogCache.getAll().stream().map(ServiceServiceImpl::copy).toList();
     }
 
     @Override
     public List<ServiceDTO> getActiveServices() {
-        log.info("Fetching active services");
-        
-        return serviceRepository.findByActiveTrue()
-                .stream()
-                .map(serviceMapper::toDTO)
-                .collect(Collectors.toList());
+        return getActiveServiceCatalog().services();
+    }
+
+    @Override
+    public ServiceCatalog getActiveServiceCatalog() {
+        ServiceCatalog cached = serviceCatalogCache.getActive();
+        return new ServiceCatalog(cached.services().stream().map(ServiceServiceImpl::copy).toList(), cached.eTag());
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.SERVICES_ACTIVE, CacheConfig.SERVICES_ALL, CacheConfig.SERVICES_BY_ID}, allEntries = true)
     public ServiceDTO updateService(Long id, ServiceDTO serviceDTO) {
         log.info("Updating service with ID: {}", id);
         
@@ -132,6 +131,7 @@ public class ServiceServiceImpl implements ServiceService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.SERVICES_ACTIVE, CacheConfig.SERVICES_ALL, CacheConfig.SERVICES_BY_ID}, allEntries = true)
     public ServiceDTO updateServiceWithImage(Long id, ServiceDTO serviceDTO, MultipartFile image) throws IOException {
         log.info("Updating service with image, ID: {}", id);
         
@@ -172,6 +172,7 @@ public class ServiceServiceImpl implements ServiceService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.SERVICES_ACTIVE, CacheConfig.SERVICES_ALL, CacheConfig.SERVICES_BY_ID}, allEntries = true)
     public void deleteService(Long id) {
         log.info("Deleting service with ID: {}", id);
         
@@ -195,6 +196,7 @@ public class ServiceServiceImpl implements ServiceService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.SERVICES_ACTIVE, CacheConfig.SERVICES_ALL, CacheConfig.SERVICES_BY_ID}, allEntries = true)
     public ServiceDTO toggleServiceStatus(Long id) {
         log.info("Toggling service status for ID: {}", id);
         
@@ -207,4 +209,8 @@ public class ServiceServiceImpl implements ServiceService {
         log.info("Service status toggled. ID: {}, New status: {}", id, updated.getActive());
         return serviceMapper.toDTO(updated);
     }
+
+    private static ServiceDTO copy(ServiceDTO service) {
+        return service.toBuilder().build();
+    }
 }
@@ -0,0 +1,100 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.model.entity.RevokedToken;
+import com.example.ead_backend.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Server-side revocation list for JWTs, keyed by the token's jti claim.
+ * Revocations are stored in revoked_tokens (the source of truth, reloaded on startup)
+ * and broadcast to every replica, so the per-request check is an in-memory lookup.
+ * Entries are dropped once the token would have expired anyway.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    static final String CHANNEL = "token_revocation";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final MessageBus messageBus;
+
+    // jti -> token expiry (epoch millis)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        // Subscribe first so nothing revoked during the load is missed
+        messageBus.subscribe(CHANNEL, this::onRevocation);
+        reload();
+    }
+
+    /**
+     * Replace the in-memory list with the unexpired rows from the database.
+     * Also runs periodically on every replica to pick up any broadcast that was missed.
+     */
+    @Scheduled(fixedDelayString = "${token-revocation.resync-ms:60000}", initialDelayString = "${token-revocation.resync-ms:60000}")
+    public void reload() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now)
+                .forEach(token -> revoked.put(token.getJti(), token.getExpiresAt().toEpochMilli()));
+        revoked.values().removeIf(expiresAt -> expiresAt <= now.toEpochMilli());
+        log.debug("Loaded {} revoked tokens", revoked.size());
+    }
+
+    /**
+     * Check whether a token has been revoked. Does not touch the database.
+     *
+     * @param jti the token's jti claim; tokens without one cannot be revoked
+     * @return true if the token was revoked and has not yet expired
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Revoke a token on every replica until its expiry.
+     *
+     * @param jti       the token's jti claim
+     * @param expiresAt the token's exp claim
+     */
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(now)) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+        revoked.put(jti, expiresAt.toEpochMilli());
+        messageBus.publish(CHANNEL, jti + "|" + expiresAt.toEpochMilli());
+
+        // Revocations are rare, so this is a cheap place to drop entries that no longer matter;
+        // expired rows are deleted by the cleanup job
+        revoked.values().removeIf(expiry -> expiry <= now.toEpochMilli());
+        log.info("Revoked token {} until {}", jti, expiresAt);
+    }
+
+    private void onRevocation(String payload) {
+        int separator = payload.lastIndexOf('|');
+        try {
+            revoked.put(payload.substring(0, separator), Long.parseLong(payload.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed token revocation: {}", payload);
+        }
+    }
+}
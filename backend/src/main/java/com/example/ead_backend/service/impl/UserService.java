@@ -1,17 +1,24 @@
 package com.example.ead_backend.service.impl;
 
+import com.example.ead_backend.config.CacheConfig;
 import com.example.ead_backend.model.entity.User;
 import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.security.AuthenticatedUser;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.regex.Pattern;
 
 @Service
-public class UserService implements UserDetailsService {
+@Slf4j
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepo userRepo;
@@ -25,6 +32,32 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
+    /**
+     * Resolve the identity (ids and role) for an email, served from a bounded cache.
+     * Login still goes through {@link #loadUserByUsername} so it always sees the current password.
+     *
+     * @throws UsernameNotFoundException if no user has this email (not cached)
+     */
+    @Cacheable(cacheNames = CacheConfig.USERS_IDENTITY, key = "#email")
+    public AuthenticatedUser getIdentity(String email) {
+        return userRepo.findWithProfilesByEmail(email)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    }
+
+    /**
+     * Store a re-hashed password after a successful login with an outdated hash.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepo.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        log.debug("Upgraded password hash for user {}", user.getId());
+        return userRepo.save(user);
+    }
+
     public User save(User user) {
         return userRepo.save(user);
     }
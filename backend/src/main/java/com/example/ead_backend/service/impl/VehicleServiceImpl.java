@@ -7,6 +7,7 @@ import com.example.ead_backend.model.entity.User;
 import com.example.ead_backend.model.entity.Vehicle;
 import com.example.ead_backend.repository.CustomerRepository;
 import com.example.ead_backend.repository.VehicleRepository;
+import com.example.ead_backend.security.AuthenticatedUser;
 import com.example.ead_backend.service.LocalFileStorageService;
 import com.example.ead_backend.service.VehicleService;
 
@@ -178,7 +179,17 @@ public class VehicleServiceImpl implements VehicleService {
      * Helper method to get the customer from authentication
      */
     private Customer getAuthenticatedCustomer(Authentication authentication) {
-        User user = (User) authentication.getPrincipal();
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser user) {
+            // JWT requests carry the customer ID as a claim
+            if (user.customerId() == null) {
+                throw new RuntimeException("Customer profile not found for user: " + user.email());
+            }
+            return customerRepository.findById(user.customerId())
+                    .orElseThrow(() -> new RuntimeException("Customer profile not found for user: " + user.email()));
+        }
+
+        User user = (User) principal;
         Customer customer = user.getCustomer();
 
         if (customer == null) {
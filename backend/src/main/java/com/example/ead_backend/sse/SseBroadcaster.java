@@ -0,0 +1,269 @@
+package com.example.ead_backend.sse;
+
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.websocket.ClusterBrokerRelay;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-Sent Events streams fed by the same relay channel as the STOMP broker, so an
+ * SSE client sees exactly what a WebSocket subscriber of the same destination sees, on
+ * whichever replica it is connected to.
+ * <p>
+ * The servlet request goes async as soon as the stream is opened, so no request thread
+ * is held. Each stream gets one virtual thread that parks on a small bounded queue and
+ * writes events in order; an idle stream costs that parked virtual thread and its socket.
+ * A comment line is sent after {@code sse.heartbeat-ms} of silence to keep proxies from
+ * closing the connection. A client that falls a full queue behind is disconnected and
+ * resumes from the last event ID it saw.
+ * <p>
+ * A stream is registered for its destination before its backlog is read, so nothing
+ * published in between is lost. Events relayed while the backlog loads are held back and
+ * sent after it, minus any the backlog already carried, compared by event ID.
+ */
+@Component
+@Slf4j
+public class SseBroadcaster implements DisposableBean {
+
+    private final MessageBus messageBus;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final int queueCapacity;
+    private final int maxConnections;
+    private final Map<String, Set<Stream>> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService writers;
+
+    @Autowired
+    public SseBroadcaster(MessageBus messageBus,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${sse.timeout-ms:1800000}") long timeoutMillis,
+                          @Value("${sse.heartbeat-ms:20000}") long heartbeatMillis,
+                          @Value("${sse.queue-capacity:64}") int queueCapacity,
+                          @Value("${sse.max-connections:20000}") int maxConnections) {
+        this(messageBus, objectMapper, meterRegistry, timeoutMillis, heartbeatMillis, queueCapacity, maxConnections,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    SseBroadcaster(MessageBus messageBus,
+                   ObjectMapper objectMapper,
+                   MeterRegistry meterRegistry,
+                   long timeoutMillis,
+                   long heartbeatMillis,
+                   int queueCapacity,
+                   int maxConnections,
+                   ExecutorService writers) {
+        this.messageBus = messageBus;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxConnections = maxConnections;
+        this.writers = writers;
+        Gauge.builder("sse.connections", connections, AtomicInteger::get)
+                .description("Open Server-Sent Events streams on this replica")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        messageBus.subscribe(ClusterBrokerRelay.CHANNEL, this::onRelayed);
+    }
+
+    /**
+     * Open a stream on a broker destination.
+     *
+     * @param destination the destination, e.g. /topic/progress.{id} or /user/{userId}/queue/notifications
+     * @param backlog     loads the events to send first, e.g. those after the client's last
+     *                    event ID; called once the stream already receives live events
+     * @return the emitter to return from the controller
+     * @throws SseCapacityException if this replica already holds {@code sse.max-connections} streams
+     */
+    public SseEmitter open(String destination, Supplier<List<Event>> backlog) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new SseCapacityException();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Stream stream = new Stream(destination, emitter);
+
+        emitter.onCompletion(stream::close);
+        emitter.onTimeout(stream::close);
+        emitter.onError(e -> stream.close());
+        streams.compute(destination, (d, peers) -> {
+            Set<Stream> updated = peers != null ? peers : ConcurrentHashMap.newKeySet();
+            updated.add(stream);
+            return updated;
+        });
+        try {
+            stream.start(backlog.get());
+        } catch (RuntimeException e) {
+            stream.close();
+            throw e;
+        }
+        writers.execute(stream);
+        return emitter;
+    }
+
+    /**
+     * One event on a stream.
+     *
+     * @param id      the event ID, echoed back by the client as Last-Event-ID; may be null
+     * @param payload the message body, written as JSON
+     */
+    public record Event(Long id, Object payload) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            // Builders are single use, so one is made per stream and send
+            SseEmitter.SseEventBuilder event = SseEmitter.event().data(payload, MediaType.APPLICATION_JSON);
+            return id == null ? event : event.id(String.valueOf(id));
+        }
+    }
+
+    int openStreams() {
+        return connections.get();
+    }
+
+    /**
+     * Events waiting to be written on a destination's streams, oldest first.
+     */
+    List<Event> queuedEvents(String destination) {
+        List<Event> queued = new ArrayList<>();
+        for (Stream stream : streams.getOrDefault(destination, Set.of())) {
+            synchronized (stream) {
+                if (stream.queue != null) {
+                    queued.addAll(stream.queue);
+                }
+            }
+        }
+        return queued;
+    }
+
+    private void onRelayed(String json) {
+        try {
+            JsonNode envelope = objectMapper.readTree(json);
+            Set<Stream> targets = streams.get(envelope.path("destination").asText());
+            if (targets == null || targets.isEmpty()) {
+                return;
+            }
+            JsonNode payload = envelope.get("payload");
+            JsonNode sequence = payload.get("sequence");
+            Event event = new Event(sequence != null && sequence.canConvertToLong() ? sequence.asLong() : null, payload);
+            for (Stream stream : targets) {
+                if (!stream.deliver(event)) {
+                    log.debug("Disconnecting slow event stream on {}", stream.destination);
+                    stream.emitter.complete();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Ignoring malformed relay message", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        writers.shutdownNow();
+    }
+
+    private final class Stream implements Runnable {
+
+        private final String destination;
+        private final SseEmitter emitter;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        // Live events relayed while the backlog loads; null once the stream has started
+        private List<Event> pending = new ArrayList<>();
+        private BlockingQueue<Event> queue;
+
+        Stream(String destination, SseEmitter emitter) {
+            this.destination = destination;
+            this.emitter = emitter;
+        }
+
+        synchronized void start(List<Event> backlog) {
+            long newest = backlog.stream()
+                    .map(Event::id)
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .max()
+                    .orElse(Long.MIN_VALUE);
+            queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, backlog.size() + pending.size()));
+            backlog.forEach(queue::offer);
+            for (Event event : pending) {
+                // Published after the stream was registered but already read into the backlog
+                if (event.id() == null || event.id() > newest) {
+                    queue.offer(event);
+                }
+            }
+            pending = null;
+        }
+
+        synchronized boolean deliver(Event event) {
+            if (pending == null) {
+                return queue.offer(event);
+            }
+            if (pending.size() >= queueCapacity) {
+                return false;
+            }
+            pending.add(event);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (open.get()) {
+                    Event event = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    emitter.send(event != null ? event.toSse() : SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (!open.compareAndSet(true, false)) {
+                return;
+            }
+            streams.computeIfPresent(destination, (d, peers) -> {
+                peers.remove(this);
+                return peers.isEmpty() ? null : peers;
+            });
+            connections.decrementAndGet();
+        }
+    }
+}
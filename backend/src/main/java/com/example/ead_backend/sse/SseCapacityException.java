@@ -0,0 +1,16 @@
+package com.example.ead_backend.sse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when this replica already holds {@code sse.max-connections} open event streams;
+ * the client should retry, typically landing on another replica.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SseCapacityException extends RuntimeException {
+
+    public SseCapacityException() {
+        super("Too many open event streams, please retry shortly");
+    }
+}
@@ -1,26 +1,72 @@
 package com.example.ead_backend.util;
 
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    private static final String SECRET = "mySecretKeymySecretKeymySecretKeymySecretKey";
-    private static final int JWT_EXPIRATION = 86400000; // 24 hours
+    // Identity claims embedded at login so requests can authenticate without a user lookup
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_CUSTOMER_ID = "cid";
+    static final String CLAIM_EMPLOYEE_ID = "eid";
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    // EventSource cannot send headers, so event streams authenticate with a token in the URL.
+    // Those tokens carry this scope, are only accepted on stream endpoints and expire quickly
+    static final String CLAIM_SCOPE = "scope";
+    static final String STREAM_SCOPE = "stream";
+    private static final long STREAM_TOKEN_TTL_SECONDS = 60;
+
+    // Key and parser are immutable and thread-safe, so they are built once
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    // Recently verified tokens, or null when disabled; keyed by the token itself so a hit
+    // can never be a hash collision
+    private final Cache<String, Claims> verifiedTokens;
+
+    // Access tokens are short-lived; clients renew them through the refresh endpoint
+    private final long accessTokenTtlSeconds;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.access-token-ttl-seconds:900}") long accessTokenTtlSeconds,
+                   @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                   @Value("${jwt.verified-cache.ttl-seconds:60}") long verifiedCacheTtlSeconds) {
+        this.accessTokenTtlSeconds = accessTokenTtlSeconds;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = verifiedCacheMaxSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(verifiedCacheTtlSeconds))
+                .build();
+    }
+
+    public long getAccessTokenTtlSeconds() {
+        return accessTokenTtlSeconds;
+    }
+
+    public long getStreamTokenTtlSeconds() {
+        return STREAM_TOKEN_TTL_SECONDS;
     }
 
     public String extractUsername(String token) {
@@ -36,35 +82,105 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verify the token's signature and expiry and return its claims.
+     * Tokens verified within the last few seconds are served from memory; the returned
+     * claims may be shared and must not be modified.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public Claims extractAllClaims(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
     public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = userDetails instanceof User user
+                ? identityClaims(AuthenticatedUser.from(user))
+                : new HashMap<>();
+        return createToken(claims, userDetails.getUsername(), accessTokenTtlSeconds);
+    }
+
+    /**
+     * Issue a short-lived token that only authenticates event-stream requests.
+     */
+    public String generateStreamToken(AuthenticatedUser identity) {
+        Map<String, Object> claims = identityClaims(identity);
+        claims.put(CLAIM_SCOPE, STREAM_SCOPE);
+        return createToken(claims, identity.email(), STREAM_TOKEN_TTL_SECONDS);
+    }
+
+    public boolean isStreamToken(Claims claims) {
+        return STREAM_SCOPE.equals(claims.get(CLAIM_SCOPE, String.class));
+    }
+
+    private static Map<String, Object> identityClaims(AuthenticatedUser identity) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(CLAIM_USER_ID, identity.userId());
+        if (identity.role() != null) {
+            claims.put(CLAIM_ROLE, identity.role());
+        }
+        if (identity.customerId() != null) {
+            claims.put(CLAIM_CUSTOMER_ID, identity.customerId());
+        }
+        if (identity.employeeId() != null) {
+            claims.put(CLAIM_EMPLOYEE_ID, identity.employeeId());
+        }
+        return claims;
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    /**
+     * Build the request principal from already verified claims.
+     *
+     * @param claims claims returned by {@link #extractAllClaims(String)}
+     * @return the principal, or null for tokens issued before identity claims existed
+     */
+    public AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        Long userId = longClaim(claims, CLAIM_USER_ID);
+        if (userId == null) {
+            return null;
+        }
+        return new AuthenticatedUser(
+                userId,
+                claims.getSubject(),
+                claims.get(CLAIM_ROLE, String.class),
+                longClaim(claims, CLAIM_CUSTOMER_ID),
+                longClaim(claims, CLAIM_EMPLOYEE_ID));
+    }
+
+    private static Long longClaim(Claims claims, String name) {
+        // JSON numbers come back as Integer or Long depending on magnitude
+        Object value = claims.get(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    private String createToken(Map<String, Object> claims, String subject, long ttlSeconds) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString()) // jti, used for revocation
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + ttlSeconds * 1000))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        // One verification covers the signature, the expiry and the subject
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
 }
@@ -0,0 +1,37 @@
+package com.example.ead_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position in a listing ordered by (date, time, id).
+ * Encoded as URL-safe base64 so clients pass it back unchanged.
+ *
+ * @param date the date of the last row returned
+ * @param time the start time of the last row returned (empty for date-only listings)
+ * @param id   the id of the last row returned, used as tie-breaker
+ */
+public record KeysetCursor(LocalDate date, String time, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = date + SEPARATOR + (time == null ? "" : time) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new KeysetCursor(LocalDate.parse(parts[0]), parts[1], parts[2]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
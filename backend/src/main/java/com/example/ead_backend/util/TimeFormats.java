@@ -0,0 +1,64 @@
+package com.example.ead_backend.util;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Conversions between the "HH:mm" strings used in DTOs and {@link LocalTime} columns.
+ * Parsing happens once when a request is mapped, never on the read path.
+ */
+public final class TimeFormats {
+
+    private static final DateTimeFormatter HH_MM = DateTimeFormatter.ofPattern("HH:mm");
+
+    // Accepts "9:00", "09:00" and "09:00:00"
+    private static final DateTimeFormatter TWENTY_FOUR_HOUR = new DateTimeFormatterBuilder()
+            .appendPattern("H:mm")
+            .optionalStart().appendPattern(":ss").optionalEnd()
+            .toFormatter(Locale.ENGLISH);
+
+    // Accepts "9:00 AM" and "9:00pm"
+    private static final DateTimeFormatter TWELVE_HOUR = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("h:mm[ ]a")
+            .toFormatter(Locale.ENGLISH);
+
+    private TimeFormats() {
+    }
+
+    /**
+     * Parse a time of day from a request.
+     *
+     * @param value the time string, may be null
+     * @return the parsed time, or null if {@code value} is null or blank
+     * @throws IllegalArgumentException if the value is not a recognised time
+     */
+    public static LocalTime parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return LocalTime.parse(trimmed, TWENTY_FOUR_HOUR);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalTime.parse(trimmed, TWELVE_HOUR);
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("Invalid time: " + value);
+            }
+        }
+    }
+
+    /**
+     * Format a time of day as "HH:mm".
+     *
+     * @param time the time, may be null
+     * @return the formatted time, or null if {@code time} is null
+     */
+    public static String format(LocalTime time) {
+        return time != null ? time.format(HH_MM) : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.ead_backend.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * Restricts which destinations clients may use.
+ * <ul>
+ *   <li>SEND straight to a broker destination is rejected, so only the server publishes;
+ *       this includes /user/..., which would otherwise reach another user's queue</li>
+ *   <li>/queue is only reachable through /user/queue/..., which the broker resolves to the
+ *       caller's own sessions, and that requires an authenticated CONNECT</li>
+ *   <li>progress updates, live on /topic/progress.{id} and replayed from
+ *       /app/progress/{id}/events, also require an authenticated CONNECT</li>
+ * </ul>
+ */
+public class ClientDestinationGuard implements ChannelInterceptor {
+
+    private static final String PROGRESS_TOPIC_PREFIX = "/topic/progress.";
+    private static final String PROGRESS_REPLAY_PREFIX = "/app/progress/";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return message;
+        }
+        if (type == SimpMessageType.MESSAGE && (destination.startsWith("/topic") || destination.startsWith("/queue")
+                || destination.startsWith("/user"))) {
+            throw new MessageDeliveryException(message, "Clients may not publish to " + destination);
+        }
+        if (type == SimpMessageType.SUBSCRIBE) {
+            if (destination.startsWith("/queue")) {
+                throw new MessageDeliveryException(message, "Subscribe to /user" + destination + " instead");
+            }
+            boolean needsUser = destination.startsWith("/user") || destination.startsWith(PROGRESS_TOPIC_PREFIX)
+                    || destination.startsWith(PROGRESS_REPLAY_PREFIX);
+            if (needsUser && SimpMessageHeaderAccessor.getUser(message.getHeaders()) == null) {
+                throw new MessageDeliveryException(message, "Authentication required for " + destination);
+            }
+        }
+        return message;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.messaging.MessageBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fans STOMP broadcasts out to every replica.
+ * Each replica keeps its own in-memory simple broker holding only its own sessions;
+ * {@link #send} publishes the message once on the {@link MessageBus} and every replica,
+ * the sender included, hands it to its local broker. The transport follows
+ * messaging.transport: PostgreSQL LISTEN/NOTIFY across pods, or in-process for a single node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterBrokerRelay {
+
+    public static final String CHANNEL = "stomp_relay";
+
+    /**
+     * Below PostgreSQL's 8000 byte NOTIFY limit, leaving room for the envelope
+     */
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final MessageBus messageBus;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void init() {
+        messageBus.subscribe(CHANNEL, this::deliver);
+    }
+
+    /**
+     * Send a message to subscribers of a destination on all replicas.
+     *
+     * @param destination the broker destination, e.g. /topic/progress.{id}
+     * @param payload     the message body, serialized as JSON
+     */
+    public void send(String destination, Object payload) {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("destination", destination);
+        envelope.set("payload", objectMapper.valueToTree(payload));
+        String json = envelope.toString();
+
+        if (json.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("Message for {} too large to relay, delivering on this replica only", destination);
+            messagingTemplate.convertAndSend(destination, envelope.get("payload"));
+            return;
+        }
+        messageBus.publish(CHANNEL, json);
+    }
+
+    private void deliver(String json) {
+        try {
+            JsonNode envelope = objectMapper.readTree(json);
+            messagingTemplate.convertAndSend(envelope.get("destination").asText(), envelope.get("payload"));
+        } catch (JsonProcessingException e) {
+            log.error("Ignoring malformed relay message", e);
+        }
+    }
+}
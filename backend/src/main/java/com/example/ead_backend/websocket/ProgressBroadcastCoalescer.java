@@ -0,0 +1,71 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses bursts of progress updates per appointment.
+ * The first update for an appointment opens a window of
+ * {@code websocket.progress.coalesce-window-ms}; updates arriving within it replace the
+ * pending one, and only the latest is sent when the window closes. Sending happens on a
+ * dedicated thread, so request threads never wait on the broker or the relay.
+ */
+@Component
+@Slf4j
+public class ProgressBroadcastCoalescer implements DisposableBean {
+
+    private final ClusterBrokerRelay brokerRelay;
+    private final long windowMillis;
+    private final Map<String, ProgressUpdateMessage> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+
+    public ProgressBroadcastCoalescer(ClusterBrokerRelay brokerRelay,
+                                      @Value("${websocket.progress.coalesce-window-ms:250}") long windowMillis) {
+        this.brokerRelay = brokerRelay;
+        this.windowMillis = windowMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-progress-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a progress update; it replaces any update for the same appointment not yet sent.
+     *
+     * @param message the progress update
+     */
+    public void submit(ProgressUpdateMessage message) {
+        String appointmentId = message.getAppointmentId();
+        if (pending.put(appointmentId, message) == null) {
+            // First update in this window schedules the flush; later ones just overwrite
+            executor.schedule(() -> flush(appointmentId), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(String appointmentId) {
+        ProgressUpdateMessage message = pending.remove(appointmentId);
+        if (message == null) {
+            return;
+        }
+        try {
+            brokerRelay.send("/topic/progress." + appointmentId, message);
+        } catch (RuntimeException e) {
+            log.error("Failed to broadcast progress update for appointment {}", appointmentId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
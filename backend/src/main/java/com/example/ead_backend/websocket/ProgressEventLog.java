@@ -0,0 +1,148 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.model.entity.ProgressUpdate;
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import com.example.ead_backend.repository.ProgressUpdateRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Recent progress broadcasts per appointment, for clients resuming after a disconnect.
+ * Every replica records what {@link ClusterBrokerRelay} delivers into a bounded ring
+ * buffer per appointment, so {@link #eventsSince} is normally answered from memory. When
+ * the buffer no longer reaches back to the requested sequence (evicted, or this replica
+ * started later) the gap is read from progress_updates instead.
+ * Replayed events may be coalesced: an update replaced within the coalescing window is
+ * not in the buffer, but the latest state always is.
+ */
+@Component
+@Slf4j
+public class ProgressEventLog {
+
+    private static final String PROGRESS_PREFIX = "/topic/progress.";
+
+    private final MessageBus messageBus;
+    private final ObjectMapper objectMapper;
+    private final ProgressUpdateRepository progressUpdateRepository;
+    private final int bufferSize;
+    private final Cache<String, Ring> buffers;
+
+    public ProgressEventLog(MessageBus messageBus,
+                            ObjectMapper objectMapper,
+                            ProgressUpdateRepository progressUpdateRepository,
+                            @Value("${websocket.progress.replay-buffer-size:32}") int bufferSize,
+                            @Value("${websocket.progress.replay-max-appointments:10000}") long maxAppointments) {
+        this.messageBus = messageBus;
+        this.objectMapper = objectMapper;
+        this.progressUpdateRepository = progressUpdateRepository;
+        this.bufferSize = bufferSize;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(maxAppointments)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        messageBus.subscribe(ClusterBrokerRelay.CHANNEL, this::onRelayed);
+    }
+
+    /**
+     * Progress events for an appointment newer than a sequence, oldest first.
+     *
+     * @param appointmentId the appointment ID (UUID string)
+     * @param since         the last sequence the client has; 0 for everything
+     * @return newer events, possibly empty
+     */
+    public List<ProgressUpdateMessage> eventsSince(String appointmentId, long since) {
+        Ring ring = buffers.getIfPresent(appointmentId);
+        List<ProgressUpdateMessage> buffered = ring == null ? null : ring.since(since);
+        if (buffered != null) {
+            return buffered;
+        }
+        return progressUpdateRepository.findByAppointmentIdAndIdGreaterThanOrderByIdAsc(appointmentId, since)
+                .stream()
+                .map(ProgressEventLog::toMessage)
+                .toList();
+    }
+
+    void record(ProgressUpdateMessage message) {
+        if (message.getSequence() == null || message.getAppointmentId() == null) {
+            return;
+        }
+        buffers.get(message.getAppointmentId(), id -> new Ring(bufferSize, message.getSequence())).add(message);
+    }
+
+    private void onRelayed(String json) {
+        try {
+            JsonNode envelope = objectMapper.readTree(json);
+            if (envelope.path("destination").asText().startsWith(PROGRESS_PREFIX)) {
+                record(objectMapper.treeToValue(envelope.get("payload"), ProgressUpdateMessage.class));
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Ignoring malformed progress event", e);
+        }
+    }
+
+    private static ProgressUpdateMessage toMessage(ProgressUpdate update) {
+        return ProgressUpdateMessage.builder()
+                .sequence(update.getId())
+                .appointmentId(update.getAppointmentId())
+                .stage(update.getStage())
+                .percentage(update.getPercentage())
+                .remarks(update.getRemarks())
+                .updatedBy(update.getUpdatedBy())
+                .timestamp(update.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Last few events of one appointment. Everything after {@code floor} is held;
+     * events at or before it may be missing.
+     */
+    private static final class Ring {
+
+        private final ArrayDeque<ProgressUpdateMessage> events;
+        private final int capacity;
+        private long floor;
+
+        Ring(int capacity, long firstSequence) {
+            this.events = new ArrayDeque<>(capacity);
+            this.capacity = capacity;
+            // Nothing is known about events before the first one this replica saw
+            this.floor = firstSequence - 1;
+        }
+
+        synchronized void add(ProgressUpdateMessage message) {
+            if (!events.isEmpty() && message.getSequence() <= events.peekLast().getSequence()) {
+                return;
+            }
+            if (events.size() == capacity) {
+                floor = events.removeFirst().getSequence();
+            }
+            events.addLast(message);
+        }
+
+        /**
+         * @return events after {@code since}, or null if the buffer does not reach back that far
+         */
+        synchronized List<ProgressUpdateMessage> since(long since) {
+            if (since < floor) {
+                return null;
+            }
+            return events.stream().filter(event -> event.getSequence() > since).toList();
+        }
+    }
+}
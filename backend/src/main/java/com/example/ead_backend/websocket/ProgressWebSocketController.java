@@ -1,71 +1,41 @@
 package com.example.ead_backend.websocket;
 
-import com.example.ead_backend.model.message.NotificationMessage;
 import com.example.ead_backend.model.message.ProgressUpdateMessage;
-import com.example.ead_backend.model.message.StatusChangeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
-import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
+
 /**
- * WebSocket controller for handling STOMP messages related to progress updates.
+ * WebSocket controller for progress replay.
+ * A reconnecting client subscribes to {@code /topic/progress.{id}} for live updates, then
+ * to {@code /app/progress/{id}/events} with a {@code since} header; the missed events are
+ * sent once to that session only. Duplicates across the two are dropped by sequence.
  */
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class ProgressWebSocketController {
 
-    /**
-     * Handle progress update messages from clients.
-     *
-     * @param appointmentId the appointment ID
-     * @param message       the progress update message
-     * @return the message to broadcast to subscribers
-     */
-    @MessageMapping("/progress/{appointmentId}")
-    @SendTo("/topic/progress.{appointmentId}")
-    public ProgressUpdateMessage handleProgressUpdate(
-            @DestinationVariable Long appointmentId,
-            ProgressUpdateMessage message) {
-
-        log.info("Received progress update message for appointment {}", appointmentId);
-        return message;
-    }
+    private final ProgressEventLog progressEventLog;
 
     /**
-     * Handle status change messages from clients.
+     * Reply to a subscription with the events after the given sequence.
      *
      * @param appointmentId the appointment ID
-     * @param message       the status change message
-     * @return the message to broadcast to subscribers
-     */
-    @MessageMapping("/status/{appointmentId}")
-    @SendTo("/topic/status.{appointmentId}")
-    public StatusChangeMessage handleStatusChange(
-            @DestinationVariable Long appointmentId,
-            StatusChangeMessage message) {
-
-        log.info("Received status change message for appointment {}", appointmentId);
-        return message;
-    }
-
-    /**
-     * Handle notification messages for specific users.
-     *
-     * @param userId  the user ID
-     * @param message the notification message
-     * @return the message to broadcast to the user
+     * @param since         the last sequence the client received
+     * @return the missed events, oldest first
      */
-    @MessageMapping("/notifications/{userId}")
-    @SendTo("/topic/notifications.{userId}")
-    public NotificationMessage handleNotification(
-            @DestinationVariable Long userId,
-            NotificationMessage message) {
+    @SubscribeMapping("/progress/{appointmentId}/events")
+    public List<ProgressUpdateMessage> replay(
+            @DestinationVariable String appointmentId,
+            @Header(name = "since", defaultValue = "0") long since) {
 
-        log.info("Received notification message for user {}", userId);
-        return message;
+        log.debug("Replaying progress for appointment {} since {}", appointmentId, since);
+        return progressEventLog.eventsSince(appointmentId, since);
     }
 }
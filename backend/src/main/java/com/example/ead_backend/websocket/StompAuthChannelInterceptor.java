@@ -0,0 +1,64 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.example.ead_backend.service.impl.TokenRevocationService;
+import com.example.ead_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions from the {@code Authorization: Bearer <jwt>} header of the
+ * CONNECT frame. The resulting {@link StompUser} stays attached to the session, so later
+ * frames need no token. A CONNECT without the header stays anonymous; one with an invalid,
+ * expired or revoked token is refused, as is a stream token, which only opens SSE streams.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return message;
+        }
+
+        AuthenticatedUser user = authenticate(authHeader.substring(7));
+        if (user == null) {
+            throw new MessageDeliveryException(message, "Invalid token");
+        }
+        accessor.setUser(new StompUser(user));
+        return message;
+    }
+
+    private AuthenticatedUser authenticate(String jwt) {
+        try {
+            Claims claims = jwtUtil.extractAllClaims(jwt);
+            if (jwtUtil.isStreamToken(claims) || tokenRevocationService.isRevoked(claims.getId())) {
+                return null;
+            }
+            return jwtUtil.toAuthenticatedUser(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected STOMP CONNECT: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.security.AuthenticatedUser;
+
+import java.security.Principal;
+
+/**
+ * Principal of an authenticated STOMP session. Named by user ID, so
+ * {@code /user/{userId}/queue/...} reaches exactly that user's sessions.
+ *
+ * @param user the identity from the CONNECT frame's JWT
+ */
+public record StompUser(AuthenticatedUser user) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(user.userId());
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.ead_backend.websocket;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket configuration for real-time notifications.
@@ -14,6 +18,24 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Autowired
+    private StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${websocket.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.message-size-limit:16384}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     /**
      * Configure message broker for pub/sub messaging.
      *
@@ -21,11 +43,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable simple broker for topic subscriptions
-        config.enableSimpleBroker("/topic");
+        // Simple broker for this replica's sessions; ClusterBrokerRelay fans messages out to the others
+        config.enableSimpleBroker("/topic", "/queue");
 
         // Set application destination prefix for client messages
         config.setApplicationDestinationPrefixes("/app");
+
+        // /user/queue/... resolves to the sessions of the principal set at CONNECT
+        config.setUserDestinationPrefix("/user");
     }
 
     /**
@@ -40,4 +65,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
+
+    /**
+     * Bound what a slow client can cost. A session whose send blocks longer than the
+     * time limit, or whose unsent messages exceed the buffer limit, is closed instead of
+     * holding memory and an outbound thread.
+     *
+     * @param registration the WebSocket transport registration
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    /**
+     * Authenticate sessions at CONNECT, then restrict the destinations clients may use.
+     *
+     * @param registration the inbound channel registration
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor, new ClientDestinationGuard());
+    }
+
+    /**
+     * Fixed-size pool with a bounded queue for writing to client sessions.
+     *
+     * @param registration the outbound channel registration
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
 }
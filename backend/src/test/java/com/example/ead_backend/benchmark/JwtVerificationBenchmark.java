@@ -0,0 +1,92 @@
+package com.example.ead_backend.benchmark;
+
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens verified per second by the JWT request path.
+ * <ul>
+ *   <li>{@code legacy} - key and parser rebuilt per call, token parsed three times per request</li>
+ *   <li>{@code singleParse} - precomputed key and parser, one parse per request, cache disabled</li>
+ *   <li>{@code cached} - hot token served from the verified-token cache</li>
+ * </ul>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.ead_backend.benchmark.JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "mySecretKeymySecretKeymySecretKeymySecretKey";
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(SECRET, 900, 0, 60);
+        cached = new JwtUtil(SECRET, 900, 10_000, 60);
+        User user = new User("Jane", "Doe", "secret", "jane@example.com");
+        user.setId(7L);
+        token = cached.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        // Mirrors the old filter: extractUsername, then validateToken (subject + expiry)
+        String username = legacyClaims(token).getSubject();
+        boolean subjectMatches = legacyClaims(token).getSubject().equals(username);
+        return subjectMatches && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return uncached.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cached.extractAllClaims(token);
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ead_backend.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Load test for idle Server-Sent Events streams against one running replica.
+ * Opens {@code connections} streams, holds them for {@code holdSeconds} (longer than
+ * sse.heartbeat-ms, so every live stream must receive at least one heartbeat) and reports
+ * how many were accepted and how many were still receiving when the hold ended.
+ * Watch the replica's {@code sse.connections} and {@code jvm.threads.live} meters while it
+ * runs: the first follows the connection count, the second stays flat.
+ * Run with {@code SSE_TOKEN=<access token> mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.ead_backend.benchmark.SseIdleConnectionsLoad
+ * -Dexec.args="http://localhost:8080 /api/customer/progress/1/stream 5000 60"}.
+ * The client's own open-file limit (ulimit -n) must exceed the connection count.
+ */
+public class SseIdleConnectionsLoad {
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String path = args.length > 1 ? args[1] : "/api/notifications/stream";
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+        int holdSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+        String token = System.getenv("SSE_TOKEN");
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger maxOpen = new AtomicInteger();
+        AtomicInteger heartbeats = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(holdSeconds);
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        for (int i = 0; i < connections; i++) {
+            clients.execute(() -> {
+                try {
+                    HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                            .header("Accept", "text/event-stream");
+                    if (token != null) {
+                        request.header("Authorization", "Bearer " + token);
+                    }
+                    HttpResponse<Stream<String>> response =
+                            client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+                    if (response.statusCode() != 200) {
+                        failed.incrementAndGet();
+                        response.body().close();
+                        return;
+                    }
+                    accepted.incrementAndGet();
+                    maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                    boolean sawHeartbeat = false;
+                    try (Stream<String> lines = response.body()) {
+                        Iterator<String> iterator = lines.iterator();
+                        while (System.nanoTime() < deadline && iterator.hasNext()) {
+                            String line = iterator.next();
+                            if (!sawHeartbeat && line.startsWith(":")) {
+                                sawHeartbeat = true;
+                                heartbeats.incrementAndGet();
+                            }
+                        }
+                    } finally {
+                        open.decrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                }
+            });
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(holdSeconds));
+        System.out.printf("requested=%d accepted=%d failed=%d peakOpen=%d openAtEnd=%d withHeartbeat=%d%n",
+                connections, accepted.get(), failed.get(), maxOpen.get(), open.get(), heartbeats.get());
+        // Readers blocked on a socket ignore interrupts, so exit rather than wait for them
+        System.exit(0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.ead_backend.cache;
+
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReplicatedCacheManager.
+ * Two managers on one in-process bus stand in for two replicas.
+ */
+class ReplicatedCacheManagerTest {
+
+    private Cache replicaA;
+    private Cache replicaB;
+
+    @BeforeEach
+    void setUp() {
+        InProcessMessageBus bus = new InProcessMessageBus();
+        replicaA = new ReplicatedCacheManager(new ConcurrentMapCacheManager("services.byId"), bus).getCache("services.byId");
+        replicaB = new ReplicatedCacheManager(new ConcurrentMapCacheManager("services.byId"), bus).getCache("services.byId");
+    }
+
+    @Test
+    void testEvict_RemovesSameTypedKeyOnOtherReplica() {
+        replicaA.put(1L, "Oil Change");
+        replicaB.put(1L, "Oil Change");
+        replicaB.put(2L, "Brake Service");
+
+        replicaA.evict(1L);
+
+        assertThat(replicaA.get(1L)).isNull();
+        assertThat(replicaB.get(1L)).isNull();
+        assertThat(replicaB.get(2L)).isNotNull();
+    }
+
+    @Test
+    void testClear_EmptiesCacheOnOtherReplica() {
+        replicaA.put("customer@example.com", "profile");
+        replicaB.put("customer@example.com", "profile");
+
+        replicaA.clear();
+
+        assertThat(replicaB.get("customer@example.com")).isNull();
+    }
+
+    @Test
+    void testPut_StaysLocal() {
+        replicaA.put(1L, "Oil Change");
+
+        assertThat(replicaB.get(1L)).isNull();
+    }
+
+    @Test
+    void testCacheInvalidation_RoundTripsKeyTypes() {
+        assertThat(CacheInvalidation.decode(CacheInvalidation.evict("n", "c", 5L).encode()).key()).isEqualTo(5L);
+        assertThat(CacheInvalidation.decode(CacheInvalidation.evict("n", "c", 5).encode()).key()).isEqualTo(5);
+        assertThat(CacheInvalidation.decode(CacheInvalidation.evict("n", "c", "a|b").encode()).key()).isEqualTo("a|b");
+        assertThat(CacheInvalidation.decode(CacheInvalidation.evict("n", "c", new Object()).encode()).clearAll()).isTrue();
+        assertThat(CacheInvalidation.decode("garbage")).isNull();
+    }
+}
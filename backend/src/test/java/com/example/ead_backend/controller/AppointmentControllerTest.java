@@ -0,0 +1,102 @@
+package com.example.ead_backend.controller;
+
+import com.example.ead_backend.ratelimit.RateLimitStore;
+import com.example.ead_backend.service.AppointmentService;
+import com.example.ead_backend.service.impl.TokenRevocationService;
+import com.example.ead_backend.service.impl.UserService;
+import com.example.ead_backend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for AppointmentController request validation.
+ */
+@WebMvcTest(controllers = AppointmentController.class)
+class AppointmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AppointmentService appointmentService;
+
+    // Dependencies of the JWT and rate-limit filters the slice picks up
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private RateLimitStore rateLimitStore;
+
+    @Test
+    @WithMockUser
+    void testGetAvailabilityRange_ReturnsMaskPerDay() throws Exception {
+        Map<LocalDate, Long> masks = new LinkedHashMap<>();
+        masks.put(LocalDate.of(2026, 3, 2), (1L << 18) | (1L << 21));
+        masks.put(LocalDate.of(2026, 3, 3), 0L);
+        when(appointmentService.getBookedSlotMasks(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 3)))
+                .thenReturn(masks);
+
+        mockMvc.perform(get("/api/appointments/availability").param("from", "2026-03-02").param("to", "2026-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slotMinutes", is(30)))
+                .andExpect(jsonPath("$.days['2026-03-02']", is((int) ((1L << 18) | (1L << 21)))))
+                .andExpect(jsonPath("$.days['2026-03-03']", is(0)));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAvailabilityRange_UnparseableDateIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/appointments/availability").param("from", "2026-13-01").param("to", "2026-03-03"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(appointmentService);
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAvailabilityRange_RejectedRangeIsBadRequest() throws Exception {
+        when(appointmentService.getBookedSlotMasks(any(), any()))
+                .thenThrow(new IllegalArgumentException("'to' must not be before 'from'"));
+
+        mockMvc.perform(get("/api/appointments/availability").param("from", "2026-03-03").param("to", "2026-03-02"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAll_UnparseableDateFilterIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/appointments").param("from", "yesterday"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(appointmentService);
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAll_RejectedCursorIsBadRequest() throws Exception {
+        when(appointmentService.getAppointmentsPage(any(), any(), any(), any(), any(), eq("not-a-cursor"), any()))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: not-a-cursor"));
+
+        mockMvc.perform(get("/api/appointments").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -2,7 +2,14 @@ package com.example.ead_backend.controller;
 
 import com.example.ead_backend.dto.ProgressResponse;
 import com.example.ead_backend.dto.ProgressUpdateRequest;
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import com.example.ead_backend.ratelimit.RateLimitStore;
 import com.example.ead_backend.service.ProgressService;
+import com.example.ead_backend.service.impl.TokenRevocationService;
+import com.example.ead_backend.service.impl.UserService;
+import com.example.ead_backend.sse.SseBroadcaster;
+import com.example.ead_backend.util.JwtUtil;
+import com.example.ead_backend.websocket.ProgressEventLog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +49,25 @@ class ProgressUpdateControllerTest {
     @MockBean
     private ProgressService progressService;
 
+    @MockBean
+    private ProgressEventLog progressEventLog;
+
+    @MockBean
+    private SseBroadcaster sseBroadcaster;
+
+    // Dependencies of the JWT and rate-limit filters the slice picks up
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private RateLimitStore rateLimitStore;
+
     private ProgressUpdateRequest testRequest;
     private ProgressResponse testResponse;
 
@@ -80,7 +106,7 @@ class ProgressUpdateControllerTest {
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id", is(1)))
-                .andExpect(jsonPath("$.appointmentId", is(100)))
+                .andExpect(jsonPath("$.appointmentId", is("100")))
                 .andExpect(jsonPath("$.stage", is("Inspection")))
                 .andExpect(jsonPath("$.percentage", is(50)))
                 .andExpect(jsonPath("$.remarks", is("Initial inspection completed")));
@@ -239,4 +265,22 @@ class ProgressUpdateControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("65"));
     }
+
+    @Test
+    @WithMockUser
+    void testGetProgressEventsSince_Success() throws Exception {
+        // Arrange
+        when(progressEventLog.eventsSince("100", 5L)).thenReturn(List.of(
+                ProgressUpdateMessage.builder().sequence(6L).appointmentId("100").stage("Repair").percentage(75).build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/customer/progress/100/events")
+                        .param("since", "5")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sequence", is(6)))
+                .andExpect(jsonPath("$[0].percentage", is(75)));
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.ead_backend.controller;
+
+import com.example.ead_backend.dto.ServiceCatalog;
+import com.example.ead_backend.dto.ServiceDTO;
+import com.example.ead_backend.ratelimit.RateLimitStore;
+import com.example.ead_backend.service.ServiceService;
+import com.example.ead_backend.service.impl.TokenRevocationService;
+import com.example.ead_backend.service.impl.UserService;
+import com.example.ead_backend.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for the conditional GET on the customer service catalog.
+ */
+@WebMvcTest(controllers = ServiceController.class)
+class ServiceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ServiceService serviceService;
+
+    // Dependencies of the JWT and rate-limit filters the slice picks up
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private RateLimitStore rateLimitStore;
+
+    @Test
+    @WithMockUser
+    void testGetActiveServices_MatchingIfNoneMatchIsNotModified() throws Exception {
+        when(serviceService.getActiveServiceCatalog()).thenReturn(catalog("49.99", "\"v1\""));
+
+        String eTag = fetchETag();
+
+        mockMvc.perform(get("/api/customer/services").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetActiveServices_StaleIfNoneMatchGetsCurrentCatalogAndTag() throws Exception {
+        when(serviceService.getActiveServiceCatalog()).thenReturn(catalog("49.99", "\"v1\""));
+        String before = fetchETag();
+
+        when(serviceService.getActiveServiceCatalog()).thenReturn(catalog("54.99", "\"v2\""));
+
+        mockMvc.perform(get("/api/customer/services").header("If-None-Match", before))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v2\""))
+                .andExpect(jsonPath("$[0].price").value(54.99));
+    }
+
+    private String fetchETag() throws Exception {
+        return mockMvc.perform(get("/api/customer/services"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    private static ServiceCatalog catalog(String price, String eTag) {
+        return new ServiceCatalog(List.of(service(price)), eTag);
+    }
+
+    private static ServiceDTO service(String price) {
+        ServiceDTO service = new ServiceDTO();
+        service.setId(1L);
+        service.setName("Oil Change");
+        service.setPrice(new BigDecimal(price));
+        service.setActive(true);
+        return service;
+    }
+}
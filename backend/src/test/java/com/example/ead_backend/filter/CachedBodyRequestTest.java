@@ -0,0 +1,73 @@
+package com.example.ead_backend.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachedBodyRequest replaying the buffered head of the body.
+ */
+class CachedBodyRequestTest {
+
+    @Test
+    void testGetInputStream_ReplaysShortBodyThenReportsFinished() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(request("{\"email\":\"a@example.com\"}"), 64);
+
+        assertThat(new String(request.getCachedBody(), StandardCharsets.UTF_8)).isEqualTo("{\"email\":\"a@example.com\"}");
+        ServletInputStream in = request.getInputStream();
+        assertThat(in.isFinished()).isFalse();
+        assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"email\":\"a@example.com\"}");
+        assertThat(in.isFinished()).isTrue();
+    }
+
+    @Test
+    void testGetInputStream_StreamsBodyBeyondLimit() throws Exception {
+        CachedBodyRequest request = new CachedBodyRequest(request("0123456789"), 4);
+
+        assertThat(request.getCachedBody()).isNull();
+        ServletInputStream in = request.getInputStream();
+        assertThat(new String(in.readNBytes(4), StandardCharsets.UTF_8)).isEqualTo("0123");
+        // The read-ahead is drained; the rest comes from the container's stream
+        assertThat(in.isFinished()).isFalse();
+        assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("456789");
+        assertThat(in.isFinished()).isTrue();
+    }
+
+    @Test
+    void testSetReadListener_DelegatesAndReplaysReadAheadBeforeEnd() throws Exception {
+        ServletInputStream original = mock(ServletInputStream.class);
+        when(original.readNBytes(anyInt())).thenReturn("ok".getBytes(StandardCharsets.UTF_8));
+        HttpServletRequest wrapped = mock(HttpServletRequest.class);
+        when(wrapped.getInputStream()).thenReturn(original);
+        ServletInputStream in = new CachedBodyRequest(wrapped, 64).getInputStream();
+        ReadListener listener = mock(ReadListener.class);
+
+        in.setReadListener(listener);
+
+        ArgumentCaptor<ReadListener> captor = ArgumentCaptor.forClass(ReadListener.class);
+        verify(original).setReadListener(captor.capture());
+        // The container saw the end during the read-ahead and reports it straight away
+        captor.getValue().onAllDataRead();
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onDataAvailable();
+        inOrder.verify(listener).onAllDataRead();
+        verify(listener, never()).onError(any());
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.ead_backend.filter;
+
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.example.ead_backend.service.impl.TokenRevocationService;
+import com.example.ead_backend.service.impl.UserService;
+import com.example.ead_backend.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for where JwtAuthenticationFilter accepts access and stream tokens.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final AuthenticatedUser JANE = new AuthenticatedUser(7L, "jane@example.com", "CUSTOMER", 3L, null);
+
+    @Spy
+    private JwtUtil jwtUtil = new JwtUtil("test-secret-test-secret-test-secret-0123", 900, 100, 60);
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStreamTokenInQueryAuthenticatesStream() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notifications/stream");
+        request.setParameter("token", jwtUtil.generateStreamToken(JANE));
+
+        assertThat(authenticate(request).getPrincipal()).isEqualTo(JANE);
+    }
+
+    @Test
+    void testStreamTokenIsRejectedInHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customer/progress/42");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateStreamToken(JANE));
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    @Test
+    void testStreamTokenInQueryIsIgnoredOutsideStreams() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customer/progress/42");
+        request.setParameter("token", jwtUtil.generateStreamToken(JANE));
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    @Test
+    void testAccessTokenIsRejectedInQuery() throws Exception {
+        User user = new User("Jane", "Doe", "secret", "jane@example.com");
+        user.setId(7L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notifications/stream");
+        request.setParameter("token", jwtUtil.generateToken(user));
+
+        assertThat(authenticate(request)).isNull();
+    }
+
+    private Authentication authenticate(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.ead_backend.filter;
+
+import com.example.ead_backend.ratelimit.InMemoryRateLimitStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RateLimitFilter per-IP and per-email buckets.
+ */
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+    private List<String> forwardedBodies;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        // 3 attempts per IP, 2 per email, no meaningful refill during the test
+        filter = new RateLimitFilter(new InMemoryRateLimitStore(1000, Duration.ofMinutes(5)),
+                new ObjectMapper(), true, 3, 0.001, 2, 0.001);
+        forwardedBodies = new ArrayList<>();
+        chain = (request, response) -> forwardedBodies.add(
+                new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDoFilter_PerEmailLimitAppliesAcrossIps() throws Exception {
+        assertThat(send("10.0.0.1", "Victim@example.com").getStatus()).isEqualTo(200);
+        assertThat(send("10.0.0.2", "victim@example.com").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("10.0.0.3", "victim@example.com");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+        assertThat(forwardedBodies).hasSize(2);
+        assertThat(forwardedBodies.get(0)).contains("Victim@example.com");
+    }
+
+    @Test
+    void testDoFilter_PerIpLimitAppliesAcrossEmails() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(send("10.0.0.1", "user" + i + "@example.com").getStatus()).isEqualTo(200);
+        }
+
+        assertThat(send("10.0.0.1", "another@example.com").getStatus()).isEqualTo(429);
+        assertThat(send("10.0.0.9", "another@example.com").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void testDoFilter_OversizedBodyIsRefused() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(oversized("10.0.0.1"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(forwardedBodies).isEmpty();
+    }
+
+    @Test
+    void testDoFilter_OversizedBodyWithoutContentLengthIsRefused() throws Exception {
+        // A chunked body announces no length; the filter finds out while buffering
+        HttpServletRequest chunked = new HttpServletRequestWrapper(oversized("10.0.0.1")) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(chunked, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(forwardedBodies).isEmpty();
+    }
+
+    @Test
+    void testShouldNotFilter_OtherEndpointsAreNotLimited() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/signup");
+        request.setServletPath("/api/auth/signup");
+
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+    }
+
+    private static MockHttpServletRequest oversized(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setServletPath("/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        // The email would only be found after the part the filter buffers
+        request.setContent(("{\"padding\":\"" + "x".repeat(5000) + "\",\"email\":\"victim@example.com\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse send(String ip, String email) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setServletPath("/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"secret123\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter((HttpServletRequest) request, response, chain);
+        return response;
+    }
+}
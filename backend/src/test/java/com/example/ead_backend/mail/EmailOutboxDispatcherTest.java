@@ -0,0 +1,98 @@
+package com.example.ead_backend.mail;
+
+import com.example.ead_backend.repository.OutboxEmailRepository;
+import com.example.ead_backend.service.EmailService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the email outbox on embedded H2 against an in-process SMTP server.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Test
+    void testDispatch_SendsQueuedEmailsInOneBatch() {
+        EmailService emailService = new EmailService(outboxEmailRepository);
+        for (int i = 0; i < 3; i++) {
+            emailService.sendProgressEmail("customer" + i + "@example.com", "Progress", "Now at " + (i * 25) + "%");
+        }
+        outboxEmailRepository.flush();
+
+        dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM email_outbox", String.class))
+                .containsOnly("SENT");
+    }
+
+    @Test
+    void testDispatch_UnreachableServerSchedulesRetry() throws IOException {
+        new EmailService(outboxEmailRepository).sendOTP("user@example.com", "123456");
+        outboxEmailRepository.flush();
+
+        dispatcher(unusedPort()).dispatch();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, attempts, last_error FROM email_outbox");
+        assertThat(row.get("STATUS")).isEqualTo("PENDING");
+        assertThat(row.get("ATTEMPTS")).isEqualTo(1);
+        assertThat(row.get("LAST_ERROR")).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT next_attempt_at FROM email_outbox", Timestamp.class))
+                .isAfter(Timestamp.from(Instant.now()));
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void testBackoff_DoublesAndIsCapped() {
+        EmailOutboxDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort());
+
+        assertThat(dispatcher.backoff(1)).hasSeconds(30);
+        assertThat(dispatcher.backoff(3)).hasSeconds(120);
+        assertThat(dispatcher.backoff(20)).hasHours(1);
+    }
+
+    private EmailOutboxDispatcher dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return new EmailOutboxDispatcher(jdbcTemplate, mailSender, outboxEmailRepository,
+                new SimpleMeterRegistry(), "noreply@automobile.com", 50, 8, 30);
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
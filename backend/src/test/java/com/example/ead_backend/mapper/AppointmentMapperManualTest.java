@@ -0,0 +1,126 @@
+package com.example.ead_backend.mapper;
+
+import com.example.ead_backend.dto.AppointmentDTO;
+import com.example.ead_backend.model.entity.Appointment;
+import com.example.ead_backend.model.entity.Employee;
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import com.example.ead_backend.model.enums.Role;
+import com.example.ead_backend.repository.AppointmentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the list-aware appointment mapping path.
+ * Runs against embedded H2 and counts JDBC statements with Hibernate statistics
+ * to show that mapping cost does not grow with the number of appointments.
+ */
+@DataJpaTest
+@Import(AppointmentMapperManual.class)
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AppointmentMapperManualTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentMapperManual appointmentMapper;
+
+    @Test
+    void testToDTOs_QueryCountIsConstantAsListGrows() {
+        Employee technician = persistEmployee();
+
+        long smallList = statementsToListAndMap(5, technician);
+        long largeList = statementsToListAndMap(50, technician);
+
+        assertThat(largeList).isEqualTo(smallList);
+    }
+
+    @Test
+    void testToDTOs_ResolvesCustomerAndEmployeeNames() {
+        Employee technician = persistEmployee();
+        User customer = persistUser("customer@example.com", "Jane", "Doe");
+        persistAppointment(customer, technician, 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AppointmentDTO> dtos = appointmentMapper.toDTOs(appointmentRepository.findAll());
+
+        assertThat(dtos).hasSize(1);
+        assertThat(dtos.get(0).getCustomerName()).isEqualTo("Jane Doe");
+        assertThat(dtos.get(0).getStartTime()).isEqualTo("09:00");
+        assertThat(dtos.get(0).getEndTime()).isEqualTo("09:30");
+        assertThat(dtos.get(0).getEmployee().getFirstName()).isEqualTo("Tech");
+    }
+
+    private long statementsToListAndMap(int appointments, Employee technician) {
+        appointmentRepository.deleteAll();
+        // Hibernate flushes inserts before deletes; the old rows hold the same slots as the new ones
+        entityManager.flush();
+        for (int i = 0; i < appointments; i++) {
+            User customer = persistUser("customer" + appointments + "-" + i + "@example.com", "Customer", String.valueOf(i));
+            persistAppointment(customer, technician, i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AppointmentDTO> dtos = appointmentMapper.toDTOs(appointmentRepository.findAll());
+
+        assertThat(dtos).hasSize(appointments);
+        assertThat(dtos).allSatisfy(dto -> assertThat(dto.getCustomerName()).startsWith("Customer"));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Employee persistEmployee() {
+        User user = persistUser("tech@example.com", "Tech", "Nician");
+        Employee employee = new Employee(user, Role.EMPLOYEE, LocalDate.of(2024, 1, 1));
+        entityManager.persist(employee);
+        return employee;
+    }
+
+    private User persistUser(String email, String firstName, String lastName) {
+        User user = new User(firstName, lastName, "secret", email);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistAppointment(User customer, Employee employee, int index) {
+        Appointment appointment = new Appointment();
+        appointment.setService("Oil Change");
+        appointment.setCustomerId(String.valueOf(customer.getId()));
+        appointment.setVehicleNo("CAB-" + index);
+        appointment.setDate(LocalDate.of(2025, 1, 1).plusDays(index));
+        appointment.setStartTime(LocalTime.of(9, 0));
+        appointment.setEndTime(LocalTime.of(9, 30));
+        appointment.setStatus(AppointmentStatus.ASSIGNED);
+        appointment.setEmployee(employee);
+        entityManager.persist(appointment);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.ead_backend.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for PostgresMessageBus: the listener lifecycle against mocks, and the NOTIFY to LISTEN
+ * round trip between replicas against an in-memory PostgreSQL stand-in.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgresMessageBusTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private Statement statement;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        // Stands in for the driver's blocking poll
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    void testConstructor_DoesNotConnect() throws Exception {
+        new PostgresMessageBus(pool, dataSource);
+
+        verify(dataSource, after(100).never()).getConnection();
+        verify(pool, never()).getConnection();
+    }
+
+    @Test
+    void testDestroy_UnlistensBeforeReturningConnection() throws Exception {
+        PostgresMessageBus bus = new PostgresMessageBus(pool, dataSource);
+        bus.start();
+        bus.subscribe("cache.invalidation", payload -> { });
+        verify(statement, timeout(1000)).execute("LISTEN \"cache.invalidation\"");
+
+        bus.destroy();
+
+        InOrder inOrder = inOrder(statement, connection);
+        inOrder.verify(statement).execute("UNLISTEN *");
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    void testPublish_ReachesSubscribersOnEveryReplica() throws Exception {
+        PostgresNotifyStandIn server = new PostgresNotifyStandIn();
+        PostgresMessageBus replicaA = replica(server);
+        PostgresMessageBus replicaB = replica(server);
+        BlockingQueue<String> receivedA = new LinkedBlockingQueue<>();
+        BlockingQueue<String> receivedB = new LinkedBlockingQueue<>();
+        try {
+            replicaA.subscribe("cache_invalidation", receivedA::add);
+            replicaB.subscribe("cache_invalidation", receivedB::add);
+            replicaB.subscribe("other", payload -> receivedB.add("other:" + payload));
+            // Both replicas, not just one of them, must be listening before the publish
+            awaitListeners(server, "cache_invalidation", 2);
+            awaitListeners(server, "other", 1);
+
+            replicaA.publish("cache_invalidation", "services.active");
+
+            assertThat(receivedB.poll(2, TimeUnit.SECONDS)).isEqualTo("services.active");
+            // Like PostgreSQL, the sending session is notified too
+            assertThat(receivedA.poll(2, TimeUnit.SECONDS)).isEqualTo("services.active");
+            assertThat(receivedB.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        } finally {
+            replicaA.destroy();
+            replicaB.destroy();
+        }
+    }
+
+    @Test
+    void testListener_HoldsConnectionFromListenerDataSourceOnly() throws Exception {
+        PostgresNotifyStandIn server = new PostgresNotifyStandIn();
+        PostgresNotifyStandIn.CountingDataSource serverPool = server.newDataSource();
+        PostgresNotifyStandIn.CountingDataSource listener = server.newDataSource();
+        PostgresMessageBus bus = new PostgresMessageBus(serverPool.dataSource(), listener.dataSource());
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        bus.start();
+        try {
+            bus.subscribe("cache_invalidation", received::add);
+            awaitListeners(server, "cache_invalidation", 1);
+
+            bus.publish("cache_invalidation", "one");
+            bus.publish("cache_invalidation", "two");
+
+            assertThat(received.poll(2, TimeUnit.SECONDS)).isEqualTo("one");
+            assertThat(received.poll(2, TimeUnit.SECONDS)).isEqualTo("two");
+            // Publishing borrows and returns a pooled connection each time; the long-lived
+            // listener connection never comes from the pool
+            assertThat(serverPool.connectionsOpened()).isEqualTo(2);
+            assertThat(listener.connectionsOpened()).isEqualTo(1);
+        } finally {
+            bus.destroy();
+        }
+        assertThat(server.listenedChannels()).isEmpty();
+    }
+
+    private static PostgresMessageBus replica(PostgresNotifyStandIn server) {
+        PostgresMessageBus bus = new PostgresMessageBus(server.newDataSource().dataSource(),
+                server.newDataSource().dataSource());
+        bus.start();
+        return bus;
+    }
+
+    private static void awaitListeners(PostgresNotifyStandIn server, String channel, int sessions) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (server.listeners(channel) < sessions) {
+            assertThat(System.currentTimeMillis()).as("LISTEN issued in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.ead_backend.messaging;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.core.Notification;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in for the LISTEN/NOTIFY part of a PostgreSQL server, so the message bus
+ * can be run end to end without a database.
+ * <p>
+ * Understands exactly the statements PostgresMessageBus issues: {@code LISTEN "channel"},
+ * {@code UNLISTEN *} and {@code SELECT pg_notify(?, ?)}. As on the server, a notification
+ * reaches every open session listening on the channel, including the sender, and a session
+ * drops its registrations when its connection is closed.
+ */
+class PostgresNotifyStandIn {
+
+    private final Set<Session> sessions = new CopyOnWriteArraySet<>();
+    private final AtomicInteger nextPid = new AtomicInteger(1000);
+
+    /**
+     * A data source whose connections are sessions on this server; each call gives an
+     * independent data source with its own connection count.
+     */
+    CountingDataSource newDataSource() {
+        return new CountingDataSource();
+    }
+
+    /**
+     * Channels with at least one listening session.
+     */
+    Set<String> listenedChannels() {
+        Set<String> channels = ConcurrentHashMap.newKeySet();
+        sessions.forEach(session -> channels.addAll(session.channels));
+        return channels;
+    }
+
+    /**
+     * Number of open sessions listening on a channel.
+     */
+    int listeners(String channel) {
+        return (int) sessions.stream().filter(session -> session.channels.contains(channel)).count();
+    }
+
+    private void notify(String channel, String payload, int senderPid) {
+        for (Session session : sessions) {
+            if (session.channels.contains(channel)) {
+                session.queue.add(new Notification(channel, senderPid, payload));
+            }
+        }
+    }
+
+    class CountingDataSource {
+
+        private final AtomicInteger opened = new AtomicInteger();
+        private final DataSource dataSource = proxy(DataSource.class, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                opened.incrementAndGet();
+                return new Session().connection;
+            }
+            return defaultValue(method.getReturnType());
+        });
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        int connectionsOpened() {
+            return opened.get();
+        }
+    }
+
+    private class Session {
+
+        private final int pid = nextPid.incrementAndGet();
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private final BlockingQueue<PGNotification> queue = new LinkedBlockingQueue<>();
+        private volatile boolean closed;
+
+        private final PGConnection pgConnection = proxy(PGConnection.class, (proxy, method, args) -> {
+            if (method.getName().equals("getNotifications")) {
+                return poll(args != null ? (Integer) args[0] : 0);
+            }
+            return defaultValue(method.getReturnType());
+        });
+
+        private final Connection connection = proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "unwrap" -> pgConnection;
+            case "isWrapperFor", "getAutoCommit" -> true;
+            case "isClosed" -> closed;
+            case "createStatement" -> statement();
+            case "prepareStatement" -> preparedStatement((String) args[0]);
+            case "close" -> {
+                closed = true;
+                sessions.remove(this);
+                yield null;
+            }
+            default -> defaultValue(method.getReturnType());
+        });
+
+        Session() {
+            sessions.add(this);
+        }
+
+        private Statement statement() {
+            return proxy(Statement.class, (proxy, method, args) -> {
+                if (method.getName().equals("execute")) {
+                    execute((String) args[0]);
+                    return false;
+                }
+                return defaultValue(method.getReturnType());
+            });
+        }
+
+        private PreparedStatement preparedStatement(String sql) throws SQLException {
+            if (!sql.equals("SELECT pg_notify(?, ?)")) {
+                throw new SQLException("Stand-in does not understand: " + sql);
+            }
+            String[] parameters = new String[3];
+            return proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+                case "setString" -> {
+                    parameters[(Integer) args[0]] = (String) args[1];
+                    yield null;
+                }
+                case "execute" -> {
+                    checkOpen();
+                    PostgresNotifyStandIn.this.notify(parameters[1], parameters[2], pid);
+                    yield true;
+                }
+                default -> defaultValue(method.getReturnType());
+            });
+        }
+
+        private void execute(String sql) throws SQLException {
+            checkOpen();
+            if (sql.equals("UNLISTEN *")) {
+                channels.clear();
+            } else if (sql.startsWith("LISTEN \"") && sql.endsWith("\"")) {
+                channels.add(sql.substring(8, sql.length() - 1).replace("\"\"", "\""));
+            } else {
+                throw new SQLException("Stand-in does not understand: " + sql);
+            }
+        }
+
+        private PGNotification[] poll(int timeoutMillis) throws SQLException {
+            checkOpen();
+            try {
+                PGNotification first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    return null;
+                }
+                List<PGNotification> notifications = new ArrayList<>(List.of(first));
+                queue.drainTo(notifications);
+                return notifications.toArray(PGNotification[]::new);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for notifications", e);
+            }
+        }
+
+        private void checkOpen() throws SQLException {
+            if (closed) {
+                throw new SQLException("This connection has been closed.");
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(PostgresNotifyStandIn.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> "stand-in " + type.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class || type == long.class || type == short.class || type == byte.class) {
+            return type == long.class ? 0L : type == short.class ? (short) 0 : type == byte.class ? (byte) 0 : 0;
+        }
+        if (type == double.class || type == float.class) {
+            return type == double.class ? 0d : 0f;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.ead_backend.otp;
+
+import com.example.ead_backend.repository.OTPRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DatabaseOtpStore writes.
+ */
+@ExtendWith(MockitoExtension.class)
+class DatabaseOtpStoreTest {
+
+    @Mock
+    private OTPRepository otpRepository;
+
+    @InjectMocks
+    private DatabaseOtpStore store;
+
+    @Test
+    void testSave_NewEmailIsInsertedWithoutReplace() {
+        LocalDateTime before = LocalDateTime.now();
+        when(otpRepository.insertIfAbsent(eq("jane@example.com"), eq("123456"), any(LocalDateTime.class))).thenReturn(1);
+
+        store.save("jane@example.com", "123456", Duration.ofMinutes(10));
+
+        ArgumentCaptor<LocalDateTime> expiry = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(otpRepository).insertIfAbsent(eq("jane@example.com"), eq("123456"), expiry.capture());
+        assertThat(expiry.getValue()).isBetween(before.plusMinutes(10), LocalDateTime.now().plusMinutes(10));
+        verify(otpRepository, never()).replace(anyString(), anyString(), any());
+        // No delete-then-insert window for a concurrent save to hit the unique email index
+        verify(otpRepository, never()).deleteAllByEmail(anyString());
+        verify(otpRepository, never()).save(any());
+    }
+
+    @Test
+    void testSave_ExistingEmailReplacesCode() {
+        when(otpRepository.insertIfAbsent(eq("jane@example.com"), eq("654321"), any(LocalDateTime.class))).thenReturn(0);
+
+        store.save("jane@example.com", "654321", Duration.ofMinutes(10));
+
+        verify(otpRepository).replace(eq("jane@example.com"), eq("654321"), any(LocalDateTime.class));
+        verify(otpRepository, never()).deleteAllByEmail(anyString());
+    }
+}
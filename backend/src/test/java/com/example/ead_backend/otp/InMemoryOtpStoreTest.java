@@ -0,0 +1,44 @@
+package com.example.ead_backend.otp;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InMemoryOtpStore.
+ */
+class InMemoryOtpStoreTest {
+
+    private final InMemoryOtpStore store = new InMemoryOtpStore(100);
+
+    @Test
+    void testCheck_ValidWrongAndMissingCodes() {
+        store.save("jane@example.com", "123456", Duration.ofMinutes(10));
+
+        assertThat(store.check("jane@example.com", "123456")).isEqualTo(OtpStore.Result.VALID);
+        assertThat(store.check("jane@example.com", "654321")).isEqualTo(OtpStore.Result.INVALID);
+        assertThat(store.check("other@example.com", "123456")).isEqualTo(OtpStore.Result.INVALID);
+        assertThat(store.check("jane@example.com", null)).isEqualTo(OtpStore.Result.INVALID);
+    }
+
+    @Test
+    void testSave_ReplacesPreviousCode() {
+        store.save("jane@example.com", "111111", Duration.ofMinutes(10));
+        store.save("jane@example.com", "222222", Duration.ofMinutes(10));
+
+        assertThat(store.check("jane@example.com", "111111")).isEqualTo(OtpStore.Result.INVALID);
+        assertThat(store.check("jane@example.com", "222222")).isEqualTo(OtpStore.Result.VALID);
+    }
+
+    @Test
+    void testCheck_ExpiredCodeIsReportedUntilRemoved() {
+        store.save("jane@example.com", "123456", Duration.ofSeconds(-1));
+
+        assertThat(store.check("jane@example.com", "123456")).isEqualTo(OtpStore.Result.EXPIRED);
+
+        store.remove("jane@example.com");
+        assertThat(store.check("jane@example.com", "123456")).isEqualTo(OtpStore.Result.INVALID);
+    }
+}
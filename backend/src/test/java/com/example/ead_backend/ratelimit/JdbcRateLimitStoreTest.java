@@ -0,0 +1,61 @@
+package com.example.ead_backend.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the shared token buckets, run on H2 in PostgreSQL mode so the
+ * bucket SQL is executed rather than mocked.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratelimit;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class JdbcRateLimitStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JdbcRateLimitStore(jdbcTemplate);
+    }
+
+    @Test
+    void testTryConsume_EmptyBucketRefusesUntilRefilled() {
+        assertThat(store.tryConsume("login|ip|10.0.0.1", 2, 0.001)).isTrue();
+        assertThat(store.tryConsume("login|ip|10.0.0.1", 2, 0.001)).isTrue();
+
+        assertThat(store.tryConsume("login|ip|10.0.0.1", 2, 0.001)).isFalse();
+        // Other keys have their own bucket
+        assertThat(store.tryConsume("login|ip|10.0.0.2", 2, 0.001)).isTrue();
+    }
+
+    @Test
+    void testTryConsume_RefillIsCappedAtCapacity() throws InterruptedException {
+        // One token per millisecond: after the pause the bucket is full again, but no fuller
+        assertThat(store.tryConsume("login|email|a@example.com", 2, 60_000)).isTrue();
+        Thread.sleep(50);
+
+        assertThat(store.tryConsume("login|email|a@example.com", 2, 60_000)).isTrue();
+        Double tokens = jdbcTemplate.queryForObject(
+                "SELECT tokens FROM rate_limit_buckets WHERE bucket_key = ?", Double.class, "login|email|a@example.com");
+        assertThat(tokens).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.Appointment;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the active-slot unique constraint on appointments.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class AppointmentRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Test
+    void testSaveAndFlush_SecondActiveBookingOfSlotIsRejected() {
+        appointmentRepository.saveAndFlush(appointment(AppointmentStatus.REQUESTING));
+
+        assertThatThrownBy(() -> appointmentRepository.saveAndFlush(appointment(AppointmentStatus.REQUESTING)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testSaveAndFlush_CancelledBookingsDoNotHoldTheSlot() {
+        appointmentRepository.saveAndFlush(appointment(AppointmentStatus.CANCELLED));
+        appointmentRepository.saveAndFlush(appointment(AppointmentStatus.CANCELLED));
+        Appointment active = appointmentRepository.saveAndFlush(appointment(AppointmentStatus.REQUESTING));
+
+        assertThat(active.getSlotActive()).isTrue();
+        assertThat(appointmentRepository.findByDate(DATE)).hasSize(3);
+    }
+
+    @Test
+    void testSaveAndFlush_CancellingReleasesTheSlot() {
+        Appointment first = appointmentRepository.saveAndFlush(appointment(AppointmentStatus.ASSIGNED));
+        first.setStatus(AppointmentStatus.CANCELLED);
+        appointmentRepository.saveAndFlush(first);
+
+        Appointment rebooked = appointmentRepository.saveAndFlush(appointment(AppointmentStatus.REQUESTING));
+
+        assertThat(first.getSlotActive()).isNull();
+        assertThat(rebooked.getSlotActive()).isTrue();
+    }
+
+    private static Appointment appointment(AppointmentStatus status) {
+        Appointment appointment = new Appointment();
+        appointment.setService("Oil Change");
+        appointment.setCustomerId("1");
+        appointment.setVehicleNo("CAB-1234");
+        appointment.setDate(DATE);
+        appointment.setStartTime(NINE);
+        appointment.setEndTime(NINE.plusMinutes(30));
+        appointment.setStatus(status);
+        return appointment;
+    }
+}
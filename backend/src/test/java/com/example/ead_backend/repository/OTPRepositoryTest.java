@@ -0,0 +1,60 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.OTP;
+import com.example.ead_backend.otp.DatabaseOtpStore;
+import com.example.ead_backend.otp.OtpStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for storing OTPs with the native insert-if-absent, run on H2 in
+ * PostgreSQL mode so the ON CONFLICT clause is executed rather than mocked.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:otp;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class OTPRepositoryTest {
+
+    @Autowired
+    private OTPRepository otpRepository;
+
+    @Test
+    void testInsertIfAbsent_SecondInsertForSameEmailIsIgnored() {
+        LocalDateTime expiry = LocalDateTime.now().plusMinutes(10);
+
+        assertThat(otpRepository.insertIfAbsent("jane@example.com", "123456", expiry)).isEqualTo(1);
+        assertThat(otpRepository.insertIfAbsent("jane@example.com", "654321", expiry)).isZero();
+
+        assertThat(otpRepository.findAll()).extracting(OTP::getOtp).containsExactly("123456");
+    }
+
+    @Test
+    void testSave_LatestCodeReplacesEarlierOne() {
+        DatabaseOtpStore store = new DatabaseOtpStore(otpRepository);
+
+        store.save("jane@example.com", "123456", Duration.ofMinutes(10));
+        store.save("jane@example.com", "654321", Duration.ofMinutes(10));
+        store.save("john@example.com", "111111", Duration.ofMinutes(10));
+
+        assertThat(otpRepository.findAll()).hasSize(2);
+        assertThat(store.check("jane@example.com", "654321")).isEqualTo(OtpStore.Result.VALID);
+        assertThat(store.check("jane@example.com", "123456")).isEqualTo(OtpStore.Result.INVALID);
+        assertThat(store.check("john@example.com", "111111")).isEqualTo(OtpStore.Result.VALID);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.ProgressSnapshot;
+import com.example.ead_backend.service.ProgressCalculationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the native snapshot upsert, run on H2 in PostgreSQL mode
+ * so the ON CONFLICT clause is executed rather than mocked.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProgressCalculationService.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshots;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class ProgressSnapshotRepositoryTest {
+
+    @Autowired
+    private ProgressSnapshotRepository progressSnapshotRepository;
+
+    @Autowired
+    private ProgressCalculationService progressCalculationService;
+
+    @Test
+    void testInsertIfAbsent_SecondInsertForSameAppointmentIsIgnored() {
+        assertThat(progressSnapshotRepository.insertIfAbsent(snapshot("a-1", "Inspection", 20))).isEqualTo(1);
+        assertThat(progressSnapshotRepository.insertIfAbsent(snapshot("a-1", "Repair", 80))).isZero();
+
+        ProgressSnapshot stored = progressSnapshotRepository.findById("a-1").orElseThrow();
+        assertThat(stored.getLatestStage()).isEqualTo("Inspection");
+        assertThat(stored.getPercentageSum()).isEqualTo(20L);
+        assertThat(stored.getUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecordProgress_SeedsNewSnapshotsAndFoldsIntoExistingOnes() {
+        progressSnapshotRepository.insertIfAbsent(snapshot("a-1", "Inspection", 20));
+
+        progressCalculationService.recordProgress("a-1", "Repair", 60);
+        progressCalculationService.recordProgress("a-2", "Inspection", 10);
+
+        ProgressSnapshot folded = progressSnapshotRepository.findById("a-1").orElseThrow();
+        assertThat(folded.getLatestStage()).isEqualTo("Repair");
+        assertThat(folded.getPercentageSum()).isEqualTo(80L);
+        assertThat(folded.getUpdateCount()).isEqualTo(2);
+        assertThat(progressSnapshotRepository.findById("a-2").orElseThrow().getUpdateCount()).isEqualTo(1);
+    }
+
+    private static ProgressSnapshot snapshot(String appointmentId, String stage, int percentage) {
+        return ProgressSnapshot.builder()
+                .appointmentId(appointmentId)
+                .latestStage(stage)
+                .latestPercentage(percentage)
+                .percentageSum((long) percentage)
+                .updateCount(1)
+                .updatedAt(Timestamp.from(Instant.now()))
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.ProgressUpdate;
+import com.example.ead_backend.service.ProgressCalculationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for the batched latest-progress query and the history fallback
+ * of ProgressCalculationService that uses it.
+ */
+@DataJpaTest
+@Import(ProgressCalculationService.class)
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class ProgressUpdateRepositoryTest {
+
+    @Autowired
+    private ProgressUpdateRepository progressUpdateRepository;
+
+    @Autowired
+    private ProgressCalculationService progressCalculationService;
+
+    @Test
+    void testFindLatestByAppointmentIds_ReturnsNewestUpdatePerAppointment() {
+        save("a-1", "Inspection", 20);
+        save("a-2", "Inspection", 10);
+        save("a-1", "Repair", 60);
+        save("a-2", "Repair", 90);
+        // A later update may lower the percentage; the newest row wins, not the largest value
+        save("a-1", "Rework", 40);
+
+        List<ProgressUpdateRepository.LatestProgress> rows =
+                progressUpdateRepository.findLatestByAppointmentIds(List.of("a-1", "a-2", "no-updates"));
+
+        assertThat(rows).extracting(ProgressUpdateRepository.LatestProgress::getAppointmentId,
+                        ProgressUpdateRepository.LatestProgress::getPercentage)
+                .containsExactlyInAnyOrder(
+                        tuple("a-1", 40),
+                        tuple("a-2", 90));
+    }
+
+    @Test
+    void testFindLatestByAppointmentIds_IgnoresAppointmentsNotAsked() {
+        save("a-1", "Repair", 60);
+        save("other", "Repair", 80);
+
+        assertThat(progressUpdateRepository.findLatestByAppointmentIds(List.of("a-1")))
+                .extracting(ProgressUpdateRepository.LatestProgress::getAppointmentId)
+                .containsExactly("a-1");
+    }
+
+    @Test
+    void testGetLatestProgress_SpansSeveralIdBatches() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            ids.add("appointment-" + i);
+        }
+        // Updates in the first, second and third batch of 1000 IDs; no snapshots exist
+        save("appointment-0", "Inspection", 10);
+        save("appointment-0", "Repair", 30);
+        save("appointment-1500", "Repair", 50);
+        save("appointment-2499", "Inspection", 5);
+        save("appointment-2499", "Done", 100);
+
+        Map<String, Integer> latest = progressCalculationService.getLatestProgress(ids);
+
+        assertThat(latest).containsOnly(
+                Map.entry("appointment-0", 30),
+                Map.entry("appointment-1500", 50),
+                Map.entry("appointment-2499", 100));
+    }
+
+    private void save(String appointmentId, String stage, int percentage) {
+        progressUpdateRepository.saveAndFlush(ProgressUpdate.builder()
+                .appointmentId(appointmentId)
+                .stage(stage)
+                .percentage(percentage)
+                .updatedBy(1L)
+                .build());
+    }
+}
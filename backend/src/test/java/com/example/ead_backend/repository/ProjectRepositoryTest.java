@@ -0,0 +1,94 @@
+package com.example.ead_backend.repository;
+
+import com.example.ead_backend.model.entity.Project;
+import com.example.ead_backend.model.enums.ProjectStatus;
+import com.example.ead_backend.util.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the keyset-paginated project listing.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class ProjectRepositoryTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MARCH_2 = LocalDate.of(2025, 3, 2);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void testFindPage_WalksPagesInDateThenIdOrder() {
+        save("Early", MARCH_1, ProjectStatus.REQUESTING);
+        // Three projects on the same date; the page boundary falls between them
+        List<Project> tied = List.of(
+                save("Tied A", MARCH_2, ProjectStatus.REQUESTING),
+                save("Tied B", MARCH_2, ProjectStatus.REQUESTING),
+                save("Tied C", MARCH_2, ProjectStatus.REQUESTING));
+        save("Late", MARCH_2.plusDays(1), ProjectStatus.REQUESTING);
+        List<String> tiedIds = tied.stream().map(Project::getProjectId).sorted().toList();
+
+        List<Project> first = page(null, 3);
+        assertThat(first).extracting(Project::getProjectId)
+                .containsExactly(idOf("Early"), tiedIds.get(0), tiedIds.get(1));
+
+        // The cursor round-trips through its encoded form, as it does over HTTP
+        Project last = first.get(first.size() - 1);
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor(last.getStartDate(), null, last.getProjectId()).encode());
+        List<Project> second = page(cursor, 3);
+        assertThat(second).extracting(Project::getProjectId)
+                .containsExactly(tiedIds.get(2), idOf("Late"));
+    }
+
+    @Test
+    void testFindPage_AppliesFilters() {
+        save("Before", MARCH_1, ProjectStatus.ASSIGNED);
+        save("Inside", MARCH_2, ProjectStatus.ASSIGNED);
+        save("Other status", MARCH_2, ProjectStatus.COMPLETED);
+        save("After", MARCH_2.plusDays(1), ProjectStatus.ASSIGNED);
+
+        List<Project> rows = projectRepository.findPage(null, null, ProjectStatus.ASSIGNED, MARCH_2, MARCH_2,
+                null, null, PageRequest.of(0, 10));
+
+        assertThat(rows).extracting(Project::getName).containsExactly("Inside");
+    }
+
+    private List<Project> page(KeysetCursor after, int size) {
+        return projectRepository.findPage(null, null, null, null, null,
+                after != null ? after.date() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, size));
+    }
+
+    private String idOf(String name) {
+        return projectRepository.findAll().stream()
+                .filter(p -> p.getName().equals(name))
+                .min(Comparator.comparing(Project::getProjectId))
+                .orElseThrow()
+                .getProjectId();
+    }
+
+    private Project save(String name, LocalDate startDate, ProjectStatus status) {
+        Project project = new Project();
+        project.setName(name);
+        project.setCustomerId("1");
+        project.setStartDate(startDate);
+        project.setStatus(status);
+        return projectRepository.saveAndFlush(project);
+    }
+}
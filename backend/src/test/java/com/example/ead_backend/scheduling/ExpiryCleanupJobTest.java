@@ -0,0 +1,103 @@
+package com.example.ead_backend.scheduling;
+
+import com.example.ead_backend.model.entity.OTP;
+import com.example.ead_backend.repository.OTPRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the batched cleanup job, its retention rules and its leader lock on embedded H2.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class ExpiryCleanupJobTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OTPRepository otpRepository;
+
+    @Test
+    void testLeaderLock_OnlyOneReplicaHoldsTheLock() {
+        JdbcLeaderLock replicaA = new JdbcLeaderLock(jdbcTemplate);
+        JdbcLeaderLock replicaB = new JdbcLeaderLock(jdbcTemplate);
+
+        assertThat(replicaA.tryAcquire("job", Duration.ofMinutes(5))).isTrue();
+        assertThat(replicaB.tryAcquire("job", Duration.ofMinutes(5))).isFalse();
+
+        replicaA.release("job");
+        assertThat(replicaB.tryAcquire("job", Duration.ofMinutes(5))).isTrue();
+    }
+
+    @Test
+    void testRun_DeletesExpiredRowsInBatches() {
+        for (int i = 0; i < 5; i++) {
+            otpRepository.save(new OTP("expired" + i + "@example.com", "123456", LocalDateTime.now().minusMinutes(1)));
+        }
+        otpRepository.save(new OTP("live@example.com", "123456", LocalDateTime.now().plusMinutes(10)));
+        otpRepository.flush();
+
+        new ExpiryCleanupJob(jdbcTemplate, new JdbcLeaderLock(jdbcTemplate), 2, 30, 365).run();
+
+        assertThat(otpRepository.findAll()).extracting(OTP::getEmail).containsExactly("live@example.com");
+    }
+
+    @Test
+    void testRun_PurgesOnlyOldReadNotifications() {
+        insertNotification(1L, true, daysAgo(31));
+        insertNotification(2L, false, daysAgo(31));
+        insertNotification(3L, true, daysAgo(29));
+
+        new ExpiryCleanupJob(jdbcTemplate, new JdbcLeaderLock(jdbcTemplate), 1000, 30, 365).run();
+
+        // Unread notifications are kept however old; read ones only until retention ends
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM notifications ORDER BY user_id", Long.class))
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void testRun_PurgesOldProgressHistoryOnlyWhereSnapshotExists() {
+        jdbcTemplate.update("INSERT INTO progress_snapshot (appointment_id, latest_stage, latest_percentage, " +
+                "percentage_sum, update_count, updated_at) VALUES ('with-snapshot', 'Repair', 80, 100, 2, ?)", daysAgo(0));
+        insertProgressUpdate("with-snapshot", "Inspection", daysAgo(400));
+        insertProgressUpdate("with-snapshot", "Repair", daysAgo(10));
+        // Without a snapshot this history is still the only record of the totals
+        insertProgressUpdate("no-snapshot", "Inspection", daysAgo(400));
+
+        new ExpiryCleanupJob(jdbcTemplate, new JdbcLeaderLock(jdbcTemplate), 1000, 30, 365).run();
+
+        assertThat(jdbcTemplate.queryForList("SELECT appointment_id || ':' || stage FROM progress_updates " +
+                "ORDER BY appointment_id, stage", String.class))
+                .containsExactly("no-snapshot:Inspection", "with-snapshot:Repair");
+    }
+
+    private void insertNotification(long userId, boolean read, Timestamp createdAt) {
+        jdbcTemplate.update("INSERT INTO notifications (user_id, type, message, is_read, created_at) " +
+                "VALUES (?, 'PROGRESS_UPDATE', 'Progress updated', ?, ?)", userId, read, createdAt);
+    }
+
+    private void insertProgressUpdate(String appointmentId, String stage, Timestamp createdAt) {
+        jdbcTemplate.update("INSERT INTO progress_updates (appointment_id, stage, percentage, updated_by, " +
+                "created_at, updated_at) VALUES (?, ?, 50, 1, ?, ?)", appointmentId, stage, createdAt, createdAt);
+    }
+
+    private static Timestamp daysAgo(int days) {
+        return Timestamp.from(Instant.now().minus(days, ChronoUnit.DAYS));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.ead_backend.service;
+
+import com.example.ead_backend.model.entity.ProgressSnapshot;
+import com.example.ead_backend.model.entity.ProgressUpdate;
+import com.example.ead_backend.repository.ProgressSnapshotRepository;
+import com.example.ead_backend.repository.ProgressUpdateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProgressCalculationService snapshot maintenance and reads.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProgressCalculationServiceTest {
+
+    @Mock
+    private ProgressUpdateRepository progressUpdateRepository;
+
+    @Mock
+    private ProgressSnapshotRepository progressSnapshotRepository;
+
+    @InjectMocks
+    private ProgressCalculationService progressCalculationService;
+
+    @Test
+    void testRecordProgress_UpdatesExistingSnapshotInPlace() {
+        when(progressSnapshotRepository.applyUpdate("100", "Repair", 75)).thenReturn(1);
+
+        progressCalculationService.recordProgress("100", "Repair", 75);
+
+        verify(progressSnapshotRepository, never()).save(any(ProgressSnapshot.class));
+        verifyNoInteractions(progressUpdateRepository);
+    }
+
+    @Test
+    void testRecordProgress_SeedsSnapshotFromHistory() {
+        when(progressSnapshotRepository.applyUpdate("100", "Repair", 75)).thenReturn(0);
+        when(progressSnapshotRepository.insertIfAbsent(any(ProgressSnapshot.class))).thenReturn(1);
+        when(progressUpdateRepository.findByAppointmentIdOrderByCreatedAtAsc("100")).thenReturn(Arrays.asList(
+                ProgressUpdate.builder().appointmentId("100").stage("Inspection").percentage(25).build(),
+                ProgressUpdate.builder().appointmentId("100").stage("Repair").percentage(75).build()));
+
+        progressCalculationService.recordProgress("100", "Repair", 75);
+
+        ArgumentCaptor<ProgressSnapshot> captor = ArgumentCaptor.forClass(ProgressSnapshot.class);
+        verify(progressSnapshotRepository).insertIfAbsent(captor.capture());
+        ProgressSnapshot snapshot = captor.getValue();
+        assertThat(snapshot.getLatestStage()).isEqualTo("Repair");
+        assertThat(snapshot.getLatestPercentage()).isEqualTo(75);
+        assertThat(snapshot.getPercentageSum()).isEqualTo(100L);
+        assertThat(snapshot.getUpdateCount()).isEqualTo(2);
+        verify(progressSnapshotRepository, times(1)).applyUpdate("100", "Repair", 75);
+    }
+
+    @Test
+    void testRecordProgress_ConcurrentSeedFoldsUpdateIntoWinner() {
+        when(progressSnapshotRepository.applyUpdate("100", "Repair", 75)).thenReturn(0, 1);
+        when(progressUpdateRepository.findByAppointmentIdOrderByCreatedAtAsc("100")).thenReturn(List.of(
+                ProgressUpdate.builder().appointmentId("100").stage("Repair").percentage(75).build()));
+        when(progressSnapshotRepository.insertIfAbsent(any(ProgressSnapshot.class))).thenReturn(0);
+
+        progressCalculationService.recordProgress("100", "Repair", 75);
+
+        verify(progressSnapshotRepository, times(2)).applyUpdate("100", "Repair", 75);
+        verify(progressSnapshotRepository, never()).save(any(ProgressSnapshot.class));
+    }
+
+    @Test
+    void testReads_UseSnapshotWithoutScanningHistory() {
+        ProgressSnapshot snapshot = ProgressSnapshot.builder()
+                .appointmentId("100")
+                .latestStage("Repair")
+                .latestPercentage(75)
+                .percentageSum(100L)
+                .updateCount(2)
+                .build();
+        when(progressSnapshotRepository.findById("100")).thenReturn(Optional.of(snapshot));
+
+        assertThat(progressCalculationService.getLatestProgress("100")).isEqualTo(75);
+        assertThat(progressCalculationService.calculateAverageProgress("100")).isEqualTo(50);
+        verifyNoInteractions(progressUpdateRepository);
+    }
+
+    @Test
+    void testGetLatestProgress_BatchFallsBackToHistoryForMissingSnapshots() {
+        ProgressSnapshot snapshot = ProgressSnapshot.builder()
+                .appointmentId("100")
+                .latestPercentage(75)
+                .build();
+        ProgressUpdateRepository.LatestProgress legacy = mock(ProgressUpdateRepository.LatestProgress.class);
+        when(legacy.getAppointmentId()).thenReturn("200");
+        when(legacy.getPercentage()).thenReturn(40);
+
+        when(progressSnapshotRepository.findAllById(anyCollection())).thenReturn(List.of(snapshot));
+        when(progressUpdateRepository.findLatestByAppointmentIds(List.of("200", "300"))).thenReturn(List.of(legacy));
+
+        Map<String, Integer> latest = progressCalculationService.getLatestProgress(List.of("100", "200", "300"));
+
+        assertThat(latest).containsEntry("100", 75).containsEntry("200", 40).doesNotContainKey("300");
+    }
+}
@@ -111,6 +111,7 @@ class ProgressServiceTest {
 
         // Verify interactions
         verify(progressUpdateRepository).save(any(ProgressUpdate.class));
+        verify(progressCalculationService).recordProgress(appointmentId, "Inspection", 50);
         verify(notificationRepository).save(any(Notification.class));
         verify(webSocketNotificationService).broadcastProgressUpdate(anyString(), any(ProgressResponse.class));
         verify(emailService).sendProgressUpdateNotification(anyString(), anyString(), anyString(), anyInt(), anyString());
@@ -0,0 +1,119 @@
+package com.example.ead_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SlotOccupancyIndex.
+ */
+class SlotOccupancyIndexTest {
+
+    private final LocalDate date = LocalDate.of(2025, 1, 15);
+
+    @Test
+    void testSlotBit_MapsTimeToHalfHourSlot() {
+        assertThat(SlotOccupancyIndex.slotBit(LocalTime.of(0, 0))).isEqualTo(1L);
+        assertThat(SlotOccupancyIndex.slotBit(LocalTime.of(9, 0))).isEqualTo(1L << 18);
+        assertThat(SlotOccupancyIndex.slotBit(LocalTime.of(9, 45))).isEqualTo(1L << 19);
+        assertThat(SlotOccupancyIndex.slotBit(LocalTime.of(23, 30))).isEqualTo(1L << 47);
+    }
+
+    @Test
+    void testRangeMask_CoversEveryOverlappingSlot() {
+        long mask = SlotOccupancyIndex.rangeMask(LocalTime.of(9, 0), LocalTime.of(10, 15));
+
+        assertThat(SlotOccupancyIndex.toStartTimes(mask)).containsExactly("09:00", "09:30", "10:00");
+        assertThat(SlotOccupancyIndex.rangeMask(LocalTime.of(10, 0), LocalTime.of(10, 0))).isZero();
+    }
+
+    @Test
+    void testSlotBit_OffGridStartIsReportedAsContainingSlot() {
+        long mask = SlotOccupancyIndex.slotBit(LocalTime.of(9, 15));
+
+        assertThat(SlotOccupancyIndex.toStartTimes(mask)).containsExactly("09:00");
+    }
+
+    @Test
+    void testRangeMask_PartiallyCoveredLastSlotIsBlocked() {
+        // 10:00-10:30 is only a quarter covered but can no longer be booked for a full slot
+        assertThat(SlotOccupancyIndex.toStartTimes(
+                SlotOccupancyIndex.rangeMask(LocalTime.of(9, 0), LocalTime.of(10, 15))))
+                .contains("10:00");
+        assertThat(SlotOccupancyIndex.toStartTimes(
+                SlotOccupancyIndex.rangeMask(LocalTime.of(9, 15), LocalTime.of(10, 0))))
+                .containsExactly("09:00", "09:30");
+    }
+
+    @Test
+    void testGetMask_LoadsOnceUntilInvalidated() {
+        SlotOccupancyIndex index = new SlotOccupancyIndex(60);
+        AtomicInteger loads = new AtomicInteger();
+
+        long first = index.getMask(date, d -> {
+            loads.incrementAndGet();
+            return SlotOccupancyIndex.slotBit(LocalTime.of(9, 0));
+        });
+        long second = index.getMask(date, d -> {
+            loads.incrementAndGet();
+            return 0L;
+        });
+
+        assertThat(first).isEqualTo(second);
+        assertThat(loads.get()).isEqualTo(1);
+
+        index.invalidate(date);
+        long reloaded = index.getMask(date, d -> {
+            loads.incrementAndGet();
+            return 0L;
+        });
+
+        assertThat(reloaded).isZero();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetMask_ExpiredEntryIsReloaded() {
+        SlotOccupancyIndex index = new SlotOccupancyIndex(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        index.getMask(date, d -> loads.incrementAndGet());
+        index.getMask(date, d -> loads.incrementAndGet());
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetMask_InvalidationDuringLoadDiscardsStaleMask() {
+        SlotOccupancyIndex index = new SlotOccupancyIndex(60);
+        long nineAm = SlotOccupancyIndex.slotBit(LocalTime.of(9, 0));
+
+        // A booking commits and invalidates the date while the load is still reading
+        long stale = index.getMask(date, d -> {
+            index.invalidate(date);
+            return 0L;
+        });
+
+        assertThat(stale).isZero();
+        assertThat(index.peek(date)).isNull();
+        assertThat(index.getMask(date, d -> nineAm)).isEqualTo(nineAm);
+        assertThat(index.peek(date)).isEqualTo(nineAm);
+    }
+
+    @Test
+    void testPut_StaleGenerationIsRejected() {
+        SlotOccupancyIndex index = new SlotOccupancyIndex(60);
+        long before = index.generation(date);
+
+        index.invalidate(date);
+
+        assertThat(index.put(date, 1L, before)).isFalse();
+        assertThat(index.peek(date)).isNull();
+        assertThat(index.put(date, 1L, index.generation(date))).isTrue();
+        assertThat(index.peek(date)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.mapper.AppointmentMapper;
+import com.example.ead_backend.model.entity.Appointment;
+import com.example.ead_backend.model.entity.TimeLog;
+import com.example.ead_backend.model.enums.AppointmentStatus;
+import com.example.ead_backend.repository.AppointmentRepository;
+import com.example.ead_backend.repository.EmployeeRepository;
+import com.example.ead_backend.repository.TimeLogRepository;
+import com.example.ead_backend.service.ProgressCalculationService;
+import com.example.ead_backend.service.SlotOccupancyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ranged availability bitmaps of AppointmentServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class AppointmentServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private TimeLogRepository timeLogRepository;
+
+    @Mock
+    private AppointmentMapper appointmentMapper;
+
+    @Mock
+    private ProgressCalculationService progressCalculationService;
+
+    private SlotOccupancyIndex slotOccupancyIndex;
+    private AppointmentServiceImpl appointmentService;
+
+    @BeforeEach
+    void setUp() {
+        slotOccupancyIndex = new SlotOccupancyIndex(30);
+        appointmentService = new AppointmentServiceImpl(appointmentRepository, employeeRepository, timeLogRepository,
+                appointmentMapper, progressCalculationService, slotOccupancyIndex);
+    }
+
+    @Test
+    void testGetBookedSlotMasks_EncodesEachDayOfRange() {
+        LocalDate tuesday = MONDAY.plusDays(1);
+        LocalDate wednesday = MONDAY.plusDays(2);
+        when(appointmentRepository.findByDateBetween(MONDAY, wednesday)).thenReturn(List.of(
+                appointment(MONDAY, "09:00", AppointmentStatus.ASSIGNED),
+                appointment(MONDAY, "10:30", AppointmentStatus.REQUESTING),
+                appointment(tuesday, "09:00", AppointmentStatus.CANCELLED)));
+        when(timeLogRepository.findByDateBetween(MONDAY, wednesday)).thenReturn(List.of(
+                timeLog(wednesday, "13:15", "14:00")));
+
+        Map<LocalDate, Long> masks = appointmentService.getBookedSlotMasks(MONDAY, wednesday);
+
+        // Bit n is the slot starting n * 30 minutes after midnight: 09:00 is 18, 10:30 is 21
+        assertThat(masks).containsExactly(
+                entry(MONDAY, (1L << 18) | (1L << 21)),
+                entry(tuesday, 0L),
+                entry(wednesday, (1L << 26) | (1L << 27)));
+    }
+
+    @Test
+    void testGetBookedSlotMasks_FullyCachedRangeSkipsQueries() {
+        slotOccupancyIndex.put(MONDAY, 1L << 18, slotOccupancyIndex.generation(MONDAY));
+        slotOccupancyIndex.put(MONDAY.plusDays(1), 0L, slotOccupancyIndex.generation(MONDAY.plusDays(1)));
+
+        assertThat(appointmentService.getBookedSlotMasks(MONDAY, MONDAY.plusDays(1)))
+                .containsExactly(entry(MONDAY, 1L << 18), entry(MONDAY.plusDays(1), 0L));
+        verifyNoInteractions(appointmentRepository, timeLogRepository);
+    }
+
+    @Test
+    void testGetBookedSlotMasks_DayInvalidatedDuringLoadIsNotCached() {
+        LocalDate tuesday = MONDAY.plusDays(1);
+        when(appointmentRepository.findByDateBetween(MONDAY, tuesday)).thenAnswer(invocation -> {
+            // A booking for Tuesday commits after the range was read
+            slotOccupancyIndex.invalidate(tuesday);
+            return List.of();
+        });
+        when(timeLogRepository.findByDateBetween(MONDAY, tuesday)).thenReturn(List.of());
+
+        appointmentService.getBookedSlotMasks(MONDAY, tuesday);
+
+        assertThat(slotOccupancyIndex.peek(MONDAY)).isZero();
+        assertThat(slotOccupancyIndex.peek(tuesday)).isNull();
+    }
+
+    @Test
+    void testGetBookedSlotMasks_AcceptsSixtyTwoDays() {
+        LocalDate last = MONDAY.plusDays(61);
+        when(appointmentRepository.findByDateBetween(MONDAY, last)).thenReturn(List.of());
+        when(timeLogRepository.findByDateBetween(MONDAY, last)).thenReturn(List.of());
+
+        assertThat(appointmentService.getBookedSlotMasks(MONDAY, last)).hasSize(62);
+    }
+
+    @Test
+    void testGetBookedSlotMasks_RejectsRangeOverCap() {
+        assertThatThrownBy(() -> appointmentService.getBookedSlotMasks(MONDAY, MONDAY.plusDays(62)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(appointmentRepository, timeLogRepository);
+    }
+
+    @Test
+    void testGetBookedSlotMasks_RejectsToBeforeFrom() {
+        assertThatThrownBy(() -> appointmentService.getBookedSlotMasks(MONDAY, MONDAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(appointmentRepository, timeLogRepository);
+    }
+
+    private static Appointment appointment(LocalDate date, String startTime, AppointmentStatus status) {
+        Appointment appointment = new Appointment();
+        appointment.setDate(date);
+        appointment.setStartTime(LocalTime.parse(startTime));
+        appointment.setStatus(status);
+        return appointment;
+    }
+
+    private static TimeLog timeLog(LocalDate date, String startTime, String endTime) {
+        TimeLog log = new TimeLog();
+        log.setDate(date);
+        log.setStartTime(LocalTime.parse(startTime));
+        log.setEndTime(LocalTime.parse(endTime));
+        return log;
+    }
+
+    private static Map.Entry<LocalDate, Long> entry(LocalDate date, long mask) {
+        return Map.entry(date, mask);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.otp.OtpStore;
+import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PasswordResetService ending existing sessions on a password change.
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordResetServiceTest {
+
+    @Mock
+    private OtpStore otpStore;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @InjectMocks
+    private PasswordResetService passwordResetService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("Jane", "Doe", "old-hash", "jane@example.com");
+        user.setId(7L);
+        when(userRepo.findByEmail("jane@example.com")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void testResetPassword_RevokesRefreshTokens() {
+        when(otpStore.check("jane@example.com", "123456")).thenReturn(OtpStore.Result.VALID);
+        when(passwordEncoder.encode("new-secret")).thenReturn("new-hash");
+
+        passwordResetService.resetPassword("jane@example.com", "123456", "new-secret");
+
+        verify(userRepo).save(user);
+        verify(refreshTokenService).revokeAllForUser(7L);
+    }
+
+    @Test
+    void testChangePassword_RevokesRefreshTokens() {
+        when(passwordEncoder.matches("old-secret", "old-hash")).thenReturn(true);
+        when(passwordEncoder.matches("new-secret", "old-hash")).thenReturn(false);
+        when(passwordEncoder.encode("new-secret")).thenReturn("new-hash");
+
+        passwordResetService.changePassword("jane@example.com", "old-secret", "new-secret");
+
+        verify(userRepo).save(user);
+        verify(refreshTokenService).revokeAllForUser(7L);
+    }
+
+    @Test
+    void testChangePassword_WrongOldPasswordKeepsSessions() {
+        when(passwordEncoder.matches("wrong", "old-hash")).thenReturn(false);
+
+        assertThatThrownBy(() -> passwordResetService.changePassword("jane@example.com", "wrong", "new-secret"))
+                .isInstanceOf(RuntimeException.class);
+        verify(refreshTokenService, never()).revokeAllForUser(anyLong());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.model.entity.RefreshToken;
+import com.example.ead_backend.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RefreshTokenService rotation and reuse detection.
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, 14);
+    }
+
+    @Test
+    void testIssue_StoresOnlyTheHash() {
+        String raw = refreshTokenService.issue(7L);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(RefreshTokenService.hash(raw)).isNotEqualTo(raw);
+        assertThat(captor.getValue().getUserId()).isEqualTo(7L);
+    }
+
+    @Test
+    void testRotate_IssuesReplacementInSameFamily() {
+        RefreshToken stored = token(null);
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw"))).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(1L), any(Instant.class))).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw");
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(rotation.userId()).isEqualTo(7L);
+        assertThat(rotation.refreshToken()).isNotEqualTo("raw");
+        assertThat(captor.getValue().getFamilyId()).isEqualTo("family-1");
+    }
+
+    @Test
+    void testRotate_ReusedTokenRevokesFamily() {
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw")))
+                .thenReturn(Optional.of(token(Instant.now())));
+        when(refreshTokenRepository.markUsed(eq(1L), any(Instant.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("raw"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(Instant.class));
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void testRevokeAllForUser_RevokesEveryFamilyInOneUpdate() {
+        refreshTokenService.revokeAllForUser(7L);
+
+        verify(refreshTokenRepository).revokeAllForUser(eq(7L), any(Instant.class));
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+        verifyNoMoreInteractions(refreshTokenRepository);
+    }
+
+    private static RefreshToken token(Instant usedAt) {
+        return RefreshToken.builder()
+                .id(1L)
+                .tokenHash(RefreshTokenService.hash("raw"))
+                .userId(7L)
+                .familyId("family-1")
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .usedAt(usedAt)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.config.CacheConfig;
+import com.example.ead_backend.dto.ServiceDTO;
+import com.example.ead_backend.mapper.ServiceMapper;
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.model.entity.Service;
+import com.example.ead_backend.repository.ServiceRepository;
+import com.example.ead_backend.service.LocalFileStorageService;
+import com.example.ead_backend.service.ServiceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the catalog caching of ServiceServiceImpl, run through the real cache configuration.
+ */
+@SpringJUnitConfig({CacheConfig.class, ServiceServiceImpl.class, ServiceCatalogCache.class, ServiceServiceImplCachingTest.BusConfig.class})
+class ServiceServiceImplCachingTest {
+
+    @Configuration
+    static class BusConfig {
+        @Bean
+        MessageBus messageBus() {
+            return new InProcessMessageBus();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @Autowired
+    private ServiceService serviceService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ServiceRepository serviceRepository;
+
+    @MockBean
+    private ServiceMapper serviceMapper;
+
+    @MockBean
+    private LocalFileStorageService fileStorageService;
+
+    private final Service oilChange = service(1L, "Oil Change");
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        when(serviceRepository.findByActiveTrue()).thenReturn(List.of(oilChange));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(oilChange));
+        when(serviceRepository.save(any(Service.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(serviceMapper.toDTO(any(Service.class))).thenAnswer(invocation -> dto(invocation.getArgument(0)));
+    }
+
+    @Test
+    void testGetActiveServices_SecondCallIsServedFromCache() {
+        List<ServiceDTO> first = serviceService.getActiveServices();
+        List<ServiceDTO> second = serviceService.getActiveServices();
+
+        assertThat(second).isEqualTo(first);
+        verify(serviceRepository, times(1)).findByActiveTrue();
+    }
+
+    @Test
+    void testCreateService_EvictsActiveServices() {
+        when(serviceMapper.toEntity(any(ServiceDTO.class))).thenReturn(service(2L, "Brake Service"));
+        serviceService.getActiveServices();
+
+        serviceService.createService(dto(service(null, "Brake Service")));
+        serviceService.getActiveServices();
+
+        verify(serviceRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void testUpdateService_EvictsActiveServices() {
+        serviceService.getActiveServices();
+
+        serviceService.updateService(1L, dto(service(1L, "Synthetic Oil Change")));
+        serviceService.getActiveServices();
+
+        verify(serviceRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void testDeleteService_EvictsActiveServices() {
+        serviceService.getActiveServices();
+
+        serviceService.deleteService(1L);
+        serviceService.getActiveServices();
+
+        verify(serviceRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void testGetActiveServiceCatalog_ETagIsKeptWithCatalogAndMovesAfterUpdate() {
+        String before = serviceService.getActiveServiceCatalog().eTag();
+        assertThat(serviceService.getActiveServiceCatalog().eTag()).isEqualTo(before);
+
+        oilChange.setName("Synthetic Oil Change");
+        serviceService.updateService(1L, dto(oilChange));
+
+        assertThat(serviceService.getActiveServiceCatalog().eTag()).isNotEqualTo(before);
+        verify(serviceRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void testGetActiveServices_CallersCannotAlterTheCachedCatalog() {
+        String eTag = serviceService.getActiveServiceCatalog().eTag();
+
+        serviceService.getActiveServices().get(0).setName("Tampered");
+        serviceService.getServiceById(1L).setName("Tampered");
+
+        assertThat(serviceService.getActiveServices()).extracting(ServiceDTO::getName).containsExactly("Oil Change");
+        assertThat(serviceService.getServiceById(1L).getName()).isEqualTo("Oil Change");
+        assertThat(serviceService.getActiveServiceCatalog().eTag()).isEqualTo(eTag);
+    }
+
+    private static Service service(Long id, String name) {
+        Service service = new Service();
+        service.setId(id);
+        service.setName(name);
+        service.setActive(true);
+        return service;
+    }
+
+    private static ServiceDTO dto(Service service) {
+        ServiceDTO dto = new ServiceDTO();
+        dto.setId(service.getId());
+        dto.setName(service.getName());
+        dto.setActive(service.getActive());
+        return dto;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.model.entity.RevokedToken;
+import com.example.ead_backend.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenRevocationService, with two instances on one in-process bus
+ * standing in for two replicas.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService replicaA;
+    private TokenRevocationService replicaB;
+
+    @BeforeEach
+    void setUp() {
+        InProcessMessageBus bus = new InProcessMessageBus();
+        replicaA = new TokenRevocationService(revokedTokenRepository, bus);
+        replicaB = new TokenRevocationService(revokedTokenRepository, bus);
+        replicaA.init();
+        replicaB.init();
+    }
+
+    @Test
+    void testRevoke_AppliesOnEveryReplica() {
+        replicaA.revoke("jti-1", Instant.now().plusSeconds(600));
+
+        assertThat(replicaA.isRevoked("jti-1")).isTrue();
+        assertThat(replicaB.isRevoked("jti-1")).isTrue();
+        assertThat(replicaB.isRevoked("jti-2")).isFalse();
+        assertThat(replicaB.isRevoked(null)).isFalse();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void testRevoke_AlreadyExpiredTokenIsIgnored() {
+        replicaA.revoke("jti-1", Instant.now().minusSeconds(1));
+
+        assertThat(replicaA.isRevoked("jti-1")).isFalse();
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void testReload_RestoresUnexpiredRevocations() {
+        when(revokedTokenRepository.findByExpiresAtAfter(any(Instant.class)))
+                .thenReturn(List.of(new RevokedToken("jti-1", Instant.now().plusSeconds(600))));
+
+        replicaB.reload();
+
+        assertThat(replicaB.isRevoked("jti-1")).isTrue();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.ead_backend.service.impl;
+
+import com.example.ead_backend.config.CacheConfig;
+import com.example.ead_backend.dto.UpdateCustomerProfileRequest;
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.model.entity.Customer;
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.model.enums.Role;
+import com.example.ead_backend.otp.OtpStore;
+import com.example.ead_backend.repository.CustomerRepository;
+import com.example.ead_backend.repository.EmployeeRepository;
+import com.example.ead_backend.repository.UserRepo;
+import com.example.ead_backend.security.AuthenticatedUser;
+import com.example.ead_backend.service.EmailService;
+import com.example.ead_backend.service.LocalFileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the identity cache behind UserService.getIdentity and the services that evict it,
+ * run through the real cache configuration.
+ */
+@SpringJUnitConfig({CacheConfig.class, UserService.class, CustomerServiceImpl.class, EmployeeServiceImpl.class,
+        CustomerProfileServiceImpl.class, PasswordResetService.class, UserIdentityCachingTest.BusConfig.class})
+// Class-based proxies as in the application, since CustomerProfileServiceImpl injects UserService by class
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+class UserIdentityCachingTest {
+
+    private static final String EMAIL = "customer@example.com";
+
+    @Configuration
+    static class BusConfig {
+        @Bean
+        MessageBus messageBus() {
+            return new InProcessMessageBus();
+        }
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomerServiceImpl customerService;
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private CustomerProfileServiceImpl customerProfileService;
+
+    @Autowired
+    private PasswordResetService passwordResetService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private UserRepo userRepo;
+
+    @MockBean
+    private CustomerRepository customerRepository;
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    @MockBean
+    private LocalFileStorageService fileStorageService;
+
+    @MockBean
+    private OtpStore otpStore;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    private User user;
+    private Cache identities;
+
+    @BeforeEach
+    void setUp() {
+        identities = cacheManager.getCache(CacheConfig.USERS_IDENTITY);
+        identities.clear();
+        user = new User("Ada", "Lovelace", "hash", EMAIL);
+        user.setId(7L);
+        when(userRepo.findWithProfilesByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepo.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepo.findById(7L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void testGetIdentity_MissLoadsOnceThenServesFromCache() {
+        AuthenticatedUser first = userService.getIdentity(EMAIL);
+        AuthenticatedUser second = userService.getIdentity(EMAIL);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.userId()).isEqualTo(7L);
+        verify(userRepo, times(1)).findWithProfilesByEmail(EMAIL);
+    }
+
+    @Test
+    void testGetIdentity_UnknownEmailIsNotCached() {
+        when(userRepo.findWithProfilesByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.getIdentity("nobody@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userService.getIdentity("nobody@example.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        assertThat(identities.get("nobody@example.com")).isNull();
+        verify(userRepo, times(2)).findWithProfilesByEmail("nobody@example.com");
+    }
+
+    @Test
+    void testCreateCustomer_EvictsIdentity() {
+        userService.getIdentity(EMAIL);
+
+        customerService.createCustomer(user, "0771234567");
+
+        assertThat(identities.get(EMAIL)).isNull();
+    }
+
+    @Test
+    void testCreateEmployee_EvictsIdentity() {
+        userService.getIdentity(EMAIL);
+
+        employeeService.createEmployee(user, Role.EMPLOYEE, LocalDate.of(2026, 1, 5));
+
+        assertThat(identities.get(EMAIL)).isNull();
+    }
+
+    @Test
+    void testUpdateCustomerProfile_EvictsIdentity() {
+        Customer customer = new Customer(user, "0771234567");
+        customer.setId(3L);
+        when(customerRepository.findByUserId(7L)).thenReturn(Optional.of(customer));
+        userService.getIdentity(EMAIL);
+
+        customerProfileService.updateCustomerProfile(7L, new UpdateCustomerProfileRequest("Ada", "King", "0779876543"));
+
+        assertThat(identities.get(EMAIL)).isNull();
+    }
+
+    @Test
+    void testResetPassword_EvictsIdentity() {
+        when(otpStore.check(EMAIL, "123456")).thenReturn(OtpStore.Result.VALID);
+        userService.getIdentity(EMAIL);
+
+        passwordResetService.resetPassword(EMAIL, "123456", "new-password");
+
+        assertThat(identities.get(EMAIL)).isNull();
+    }
+
+    @Test
+    void testChangePassword_EvictsIdentity() {
+        when(passwordEncoder.matches("old-password", "hash")).thenReturn(true);
+        when(passwordEncoder.matches("new-password", "hash")).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("new-hash");
+        userService.getIdentity(EMAIL);
+
+        passwordResetService.changePassword(EMAIL, "old-password", "new-password");
+
+        assertThat(identities.get(EMAIL)).isNull();
+        verify(userRepo).save(any(User.class));
+    }
+}
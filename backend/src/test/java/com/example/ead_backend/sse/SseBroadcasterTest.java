@@ -0,0 +1,91 @@
+package com.example.ead_backend.sse;
+
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.websocket.ClusterBrokerRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SseBroadcaster connection accounting and backlog ordering.
+ */
+class SseBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InProcessMessageBus messageBus = new InProcessMessageBus();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService writers;
+    private SseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Writers queue behind a parked task, so queued events stay put for inspection
+        writers = Executors.newSingleThreadExecutor();
+        writers.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        broadcaster = new SseBroadcaster(messageBus, new ObjectMapper(), meterRegistry,
+                60_000, 50, 4, 2, writers);
+        broadcaster.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void testOpen_RejectsStreamsBeyondLimit() {
+        broadcaster.open("/topic/progress.42", List::of);
+        broadcaster.open("/user/7/queue/notifications", () -> List.of(new SseBroadcaster.Event(3L, "backlog")));
+
+        assertThatThrownBy(() -> broadcaster.open("/topic/progress.42", List::of))
+                .isInstanceOf(SseCapacityException.class);
+        assertThat(broadcaster.openStreams()).isEqualTo(2);
+        assertThat(meterRegistry.get("sse.connections").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void testOpen_EventsRelayedWhileBacklogLoadsFollowItOnce() {
+        broadcaster.open("/topic/progress.42", () -> {
+            // Sequence 5 is committed before the backlog query, sequence 6 after it
+            relay("/topic/progress.42", 5);
+            relay("/topic/progress.42", 6);
+            return List.of(new SseBroadcaster.Event(4L, "backlog"), new SseBroadcaster.Event(5L, "backlog"));
+        });
+        relay("/topic/progress.42", 7);
+
+        assertThat(broadcaster.queuedEvents("/topic/progress.42"))
+                .extracting(SseBroadcaster.Event::id)
+                .containsExactly(4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void testOpen_FailedBacklogReleasesStream() {
+        assertThatThrownBy(() -> broadcaster.open("/topic/progress.42", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(broadcaster.openStreams()).isZero();
+        assertThat(broadcaster.queuedEvents("/topic/progress.42")).isEmpty();
+    }
+
+    private void relay(String destination, long sequence) {
+        messageBus.publish(ClusterBrokerRelay.CHANNEL,
+                "{\"destination\":\"" + destination + "\",\"payload\":{\"sequence\":" + sequence + "}}");
+    }
+}
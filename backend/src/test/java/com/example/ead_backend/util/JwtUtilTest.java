@@ -0,0 +1,93 @@
+package com.example.ead_backend.util;
+
+import com.example.ead_backend.model.entity.Customer;
+import com.example.ead_backend.model.entity.Employee;
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.model.enums.Role;
+import com.example.ead_backend.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for JwtUtil identity claims and verification.
+ */
+class JwtUtilTest {
+
+    static final String SECRET = "test-secret-test-secret-test-secret-0123";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 900, 100, 60);
+
+    @Test
+    void testGenerateToken_CustomerClaimsRoundTrip() {
+        User user = new User("Jane", "Doe", "secret", "jane@example.com");
+        user.setId(7L);
+        Customer customer = new Customer(user, "0771234567");
+        customer.setId(3L);
+        user.setCustomer(customer);
+
+        String token = jwtUtil.generateToken(user);
+        AuthenticatedUser principal = jwtUtil.toAuthenticatedUser(jwtUtil.extractAllClaims(token));
+
+        assertThat(principal).isEqualTo(new AuthenticatedUser(7L, "jane@example.com", "CUSTOMER", 3L, null));
+        assertThat(principal.getName()).isEqualTo("jane@example.com");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_CUSTOMER");
+    }
+
+    @Test
+    void testGenerateToken_EmployeeRoleComesFromProfile() {
+        User user = new User("Tech", "Nician", "secret", "tech@example.com");
+        user.setId(8L);
+        Employee employee = new Employee(user, Role.ADMIN, LocalDate.of(2024, 1, 1));
+        employee.setId(4L);
+        user.setEmployee(employee);
+
+        AuthenticatedUser principal = jwtUtil.toAuthenticatedUser(jwtUtil.extractAllClaims(jwtUtil.generateToken(user)));
+
+        assertThat(principal.role()).isEqualTo("ADMIN");
+        assertThat(principal.employeeId()).isEqualTo(4L);
+        assertThat(principal.customerId()).isNull();
+    }
+
+    @Test
+    void testToAuthenticatedUser_LegacyTokenWithoutClaimsReturnsNull() {
+        String legacy = jwtUtil.generateToken(org.springframework.security.core.userdetails.User
+                .withUsername("old@example.com").password("x").roles("CUSTOMER").build());
+
+        assertThat(jwtUtil.toAuthenticatedUser(jwtUtil.extractAllClaims(legacy))).isNull();
+    }
+
+    @Test
+    void testExtractAllClaims_RepeatedVerificationReusesClaims() {
+        String token = jwtUtil.generateToken(new User("Jane", "Doe", "secret", "jane@example.com"));
+
+        assertThat(jwtUtil.extractAllClaims(token)).isSameAs(jwtUtil.extractAllClaims(token));
+    }
+
+    @Test
+    void testExtractAllClaims_TokenSignedWithAnotherKeyIsRejected() {
+        JwtUtil other = new JwtUtil("another-secret-another-secret-another-01", 900, 100, 60);
+        String forged = other.generateToken(new User("Jane", "Doe", "secret", "jane@example.com"));
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void testGenerateStreamToken_ScopedShortLivedIdentity() {
+        AuthenticatedUser identity = new AuthenticatedUser(7L, "jane@example.com", "CUSTOMER", 3L, null);
+
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateStreamToken(identity));
+
+        assertThat(jwtUtil.isStreamToken(claims)).isTrue();
+        assertThat(jwtUtil.toAuthenticatedUser(claims)).isEqualTo(identity);
+        assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime())
+                .isEqualTo(jwtUtil.getStreamTokenTtlSeconds() * 1000);
+        assertThat(jwtUtil.isStreamToken(jwtUtil.extractAllClaims(
+                jwtUtil.generateToken(new User("Jane", "Doe", "secret", "jane@example.com"))))).isFalse();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.messaging.MessageBus;
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ClusterBrokerRelay: two application contexts, each with its own
+ * simple broker, share one in-process bus and stand in for two replicas.
+ */
+class ClusterBrokerRelayTest {
+
+    private AnnotationConfigApplicationContext shared;
+    private AnnotationConfigApplicationContext replicaA;
+    private AnnotationConfigApplicationContext replicaB;
+
+    @BeforeEach
+    void setUp() {
+        shared = new AnnotationConfigApplicationContext();
+        shared.registerBean(MessageBus.class, InProcessMessageBus::new);
+        shared.registerBean(ObjectMapper.class, () -> new ObjectMapper());
+        shared.refresh();
+        replicaA = replica(shared);
+        replicaB = replica(shared);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaA.close();
+        replicaB.close();
+        shared.close();
+    }
+
+    @Test
+    void testSend_ReachesSubscribersOnEveryReplica() {
+        List<Message<?>> onA = subscribe(replicaA, "/topic/progress.42");
+        List<Message<?>> onB = subscribe(replicaB, "/topic/progress.42");
+
+        replicaA.getBean(ClusterBrokerRelay.class).send("/topic/progress.42", ProgressUpdateMessage.builder()
+                .appointmentId("42").stage("Inspection").percentage(40).build());
+
+        assertThat(onA).hasSize(1);
+        assertThat(onB).hasSize(1);
+        assertThat(body(onB.get(0))).contains("\"appointmentId\":\"42\"").contains("\"percentage\":40");
+    }
+
+    @Test
+    void testSend_OnlyMatchingDestinationIsDelivered() {
+        List<Message<?>> other = subscribe(replicaB, "/topic/progress.7");
+
+        replicaA.getBean(ClusterBrokerRelay.class).send("/topic/progress.42", ProgressUpdateMessage.builder()
+                .appointmentId("42").build());
+
+        assertThat(other).isEmpty();
+    }
+
+    private static AnnotationConfigApplicationContext replica(ApplicationContext parent) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.setParent(parent);
+        context.register(ReplicaConfig.class, ClusterBrokerRelay.class);
+        context.refresh();
+        return context;
+    }
+
+    private static List<Message<?>> subscribe(ApplicationContext replica, String destination) {
+        List<Message<?>> received = new CopyOnWriteArrayList<>();
+        ReplicaConfig config = replica.getBean(ReplicaConfig.class);
+
+        // The simple broker only delivers to sessions it has seen connect
+        SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        connect.setSessionId("session-1");
+        config.clientInboundChannel().send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+        config.clientOutboundChannel().subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                received.add(message);
+            }
+        });
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        headers.setSessionId("session-1");
+        headers.setSubscriptionId("sub-1");
+        headers.setDestination(destination);
+        config.clientInboundChannel().send(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+        return received;
+    }
+
+    private static String body(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The broker half of @EnableWebSocketMessageBroker, with synchronous channels.
+     */
+    @Configuration
+    static class ReplicaConfig {
+
+        @Bean
+        ExecutorSubscribableChannel clientInboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        ExecutorSubscribableChannel clientOutboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        ExecutorSubscribableChannel brokerChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        SimpleBrokerMessageHandler simpleBroker() {
+            return new SimpleBrokerMessageHandler(clientInboundChannel(), clientOutboundChannel(), brokerChannel(),
+                    List.of("/topic"));
+        }
+
+        @Bean
+        SimpMessagingTemplate messagingTemplate() {
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel());
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            return template;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProgressBroadcastCoalescer.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProgressBroadcastCoalescerTest {
+
+    @Mock
+    private ClusterBrokerRelay brokerRelay;
+
+    private ProgressBroadcastCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new ProgressBroadcastCoalescer(brokerRelay, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.destroy();
+    }
+
+    @Test
+    void testSubmit_BurstSendsOnlyLatestPerAppointment() {
+        for (int percentage = 10; percentage <= 50; percentage += 10) {
+            coalescer.submit(ProgressUpdateMessage.builder().appointmentId("42").percentage(percentage).build());
+        }
+        coalescer.submit(ProgressUpdateMessage.builder().appointmentId("7").percentage(90).build());
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(brokerRelay, timeout(1000)).send(eq("/topic/progress.42"), captor.capture());
+        verify(brokerRelay, timeout(1000)).send(eq("/topic/progress.7"), any());
+        verify(brokerRelay, times(2)).send(any(), any());
+        assertThat(((ProgressUpdateMessage) captor.getValue()).getPercentage()).isEqualTo(50);
+    }
+
+    @Test
+    void testSubmit_UpdateAfterWindowIsSentSeparately() {
+        coalescer.submit(ProgressUpdateMessage.builder().appointmentId("42").percentage(10).build());
+        verify(brokerRelay, timeout(1000)).send(eq("/topic/progress.42"), any());
+
+        coalescer.submit(ProgressUpdateMessage.builder().appointmentId("42").percentage(20).build());
+
+        verify(brokerRelay, timeout(1000).times(2)).send(eq("/topic/progress.42"), any());
+    }
+}
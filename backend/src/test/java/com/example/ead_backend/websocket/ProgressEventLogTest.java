@@ -0,0 +1,89 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.messaging.InProcessMessageBus;
+import com.example.ead_backend.model.entity.ProgressUpdate;
+import com.example.ead_backend.model.message.ProgressUpdateMessage;
+import com.example.ead_backend.repository.ProgressUpdateRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProgressEventLog replay, fed through the relay as in production.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProgressEventLogTest {
+
+    @Mock
+    private ProgressUpdateRepository progressUpdateRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ClusterBrokerRelay relay;
+    private ProgressEventLog eventLog;
+
+    @BeforeEach
+    void setUp() {
+        InProcessMessageBus bus = new InProcessMessageBus();
+        ObjectMapper objectMapper = new ObjectMapper();
+        relay = new ClusterBrokerRelay(bus, messagingTemplate, objectMapper);
+        relay.init();
+        eventLog = new ProgressEventLog(bus, objectMapper, progressUpdateRepository, 3, 100);
+        eventLog.init();
+    }
+
+    @Test
+    void testEventsSince_ServedFromBuffer() {
+        publish(10, 20);
+        publish(11, 30);
+        publish(12, 40);
+
+        assertThat(eventLog.eventsSince("42", 10))
+                .extracting(ProgressUpdateMessage::getSequence).containsExactly(11L, 12L);
+        assertThat(eventLog.eventsSince("42", 12)).isEmpty();
+        verifyNoInteractions(progressUpdateRepository);
+    }
+
+    @Test
+    void testEventsSince_EvictedRangeFallsBackToDatabase() {
+        for (long sequence = 10; sequence <= 14; sequence++) {
+            publish(sequence, (int) sequence);
+        }
+        ProgressUpdate missed = new ProgressUpdate();
+        missed.setId(11L);
+        missed.setAppointmentId("42");
+        when(progressUpdateRepository.findByAppointmentIdAndIdGreaterThanOrderByIdAsc("42", 10L))
+                .thenReturn(List.of(missed));
+
+        assertThat(eventLog.eventsSince("42", 11))
+                .extracting(ProgressUpdateMessage::getSequence).containsExactly(12L, 13L, 14L);
+        assertThat(eventLog.eventsSince("42", 10))
+                .extracting(ProgressUpdateMessage::getSequence).containsExactly(11L);
+    }
+
+    @Test
+    void testEventsSince_UnknownAppointmentReadsDatabase() {
+        when(progressUpdateRepository.findByAppointmentIdAndIdGreaterThanOrderByIdAsc(anyString(), anyLong()))
+                .thenReturn(List.of());
+
+        assertThat(eventLog.eventsSince("7", 0)).isEmpty();
+        verify(progressUpdateRepository).findByAppointmentIdAndIdGreaterThanOrderByIdAsc("7", 0L);
+    }
+
+    private void publish(long sequence, int percentage) {
+        relay.send("/topic/progress.42", ProgressUpdateMessage.builder()
+                .sequence(sequence).appointmentId("42").percentage(percentage).build());
+    }
+}
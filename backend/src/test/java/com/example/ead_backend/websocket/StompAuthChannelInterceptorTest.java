@@ -0,0 +1,136 @@
+package com.example.ead_backend.websocket;
+
+import com.example.ead_backend.model.entity.User;
+import com.example.ead_backend.service.impl.TokenRevocationService;
+import com.example.ead_backend.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for STOMP CONNECT authentication and the client destination guard.
+ */
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123";
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private MessageChannel channel;
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 900, 100, 60);
+    private final ClientDestinationGuard guard = new ClientDestinationGuard();
+    private StompAuthChannelInterceptor interceptor;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwtUtil, tokenRevocationService);
+        User user = new User("Jane", "Doe", "secret", "jane@example.com");
+        user.setId(7L);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Test
+    void testConnect_ValidTokenBindsPrincipalByUserId() {
+        Message<?> connected = interceptor.preSend(frame(StompCommand.CONNECT, null, "Bearer " + token), channel);
+
+        Principal user = SimpMessageHeaderAccessor.getUser(connected.getHeaders());
+        assertThat(user).isInstanceOf(StompUser.class);
+        assertThat(user.getName()).isEqualTo("7");
+    }
+
+    @Test
+    void testConnect_RevokedTokenIsRefused() {
+        when(tokenRevocationService.isRevoked(any())).thenReturn(true);
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, "Bearer " + token), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void testConnect_StreamTokenIsRefused() {
+        String streamToken = jwtUtil.generateStreamToken(jwtUtil.toAuthenticatedUser(jwtUtil.extractAllClaims(token)));
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, "Bearer " + streamToken), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void testConnect_WithoutTokenStaysAnonymous() {
+        Message<?> connected = interceptor.preSend(frame(StompCommand.CONNECT, null, null), channel);
+
+        assertThat(SimpMessageHeaderAccessor.getUser(connected.getHeaders())).isNull();
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    void testGuard_RestrictsClientDestinations() {
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SEND, "/topic/progress.42", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SEND, "/queue/notifications-user1", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        // The user destination resolver would deliver this into another user's queue
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SEND, "/user/7/queue/notifications", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SUBSCRIBE, "/queue/notifications-user1", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+
+        Message<byte[]> ownQueue = authenticatedSubscribe("/user/queue/notifications");
+        assertThat(guard.preSend(ownQueue, channel)).isSameAs(ownQueue);
+    }
+
+    @Test
+    void testGuard_ProgressSubscriptionsRequireAuthenticatedConnect() {
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SUBSCRIBE, "/topic/progress.42", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> guard.preSend(frame(StompCommand.SUBSCRIBE, "/app/progress/42/events", null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+
+        Message<byte[]> live = authenticatedSubscribe("/topic/progress.42");
+        Message<byte[]> replay = authenticatedSubscribe("/app/progress/42/events");
+        assertThat(guard.preSend(live, channel)).isSameAs(live);
+        assertThat(guard.preSend(replay, channel)).isSameAs(replay);
+    }
+
+    private Message<byte[]> authenticatedSubscribe(String destination) {
+        Message<?> authenticated = interceptor.preSend(frame(StompCommand.CONNECT, null, "Bearer " + token), channel);
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setDestination(destination);
+        subscribe.setUser(SimpMessageHeaderAccessor.getUser(authenticated.getHeaders()));
+        return MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders());
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
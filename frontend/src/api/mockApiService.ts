@@ -43,6 +43,29 @@ async function callApi(path: string, options?: RequestInit) {
   }
 }
 
+// Keyset-paginated listings return one page per call; follow X-Next-Cursor to the last page.
+// Filters (status, from, to) go to the server so only matching rows are paged through.
+async function callApiAllPages(path: string, filters: Record<string, string> = {}): Promise<unknown[]> {
+  const base = API_BASE || '';
+  const items: unknown[] = [];
+  let cursor: string | null = null;
+  do {
+    const query = new URLSearchParams(filters);
+    if (cursor) query.set('cursor', cursor);
+    const url: string = query.toString() ? `${base}${path}?${query}` : `${base}${path}`;
+    const res = await fetch(url, { headers: { 'Content-Type': 'application/json' } });
+    if (!res.ok) {
+      const text = await res.text();
+      throw new Error(`API error ${res.status}: ${text}`);
+    }
+    const page = await res.json();
+    if (!Array.isArray(page)) throw new Error(`Invalid response from server for ${path}`);
+    items.push(...page);
+    cursor = res.headers.get('X-Next-Cursor');
+  } while (cursor);
+  return items;
+}
+
 /**
  * Customer Service
  */
@@ -83,7 +106,7 @@ export const appointmentService = {
     // Always use backend API. This will throw if the backend is unreachable or
     // returns a non-2xx response so the UI can surface the error instead of
     // silently falling back to mock data.
-    const dtos = await callApi(`/api/appointments`);
+    const dtos = await callApiAllPages(`/api/appointments`);
     if (!Array.isArray(dtos)) throw new Error('Invalid appointments response from server');
     const raw = dtos as Array<Record<string, unknown>>;
     const mapped = raw.map(mapDtoToAppointment);
@@ -92,7 +115,8 @@ export const appointmentService = {
   },
 
   async getUpcomingAppointments(customerId: string): Promise<Appointment[]> {
-    const dtos = await callApi(`/api/appointments`);
+    const today = new Date().toLocaleDateString('en-CA'); // local YYYY-MM-DD
+    const dtos = await callApiAllPages(`/api/appointments`, { from: today });
     if (!Array.isArray(dtos)) throw new Error('Invalid appointments response from server');
     const raw = dtos as Array<Record<string, unknown>>;
     const mapped = raw.map(mapDtoToAppointment);
@@ -101,12 +125,12 @@ export const appointmentService = {
   },
 
   async getCompletedAppointments(customerId: string): Promise<Appointment[]> {
-    const dtos = await callApi(`/api/appointments`);
+    const dtos = await callApiAllPages(`/api/appointments`, { status: 'COMPLETED' });
     if (!Array.isArray(dtos)) throw new Error('Invalid appointments response from server');
     const raw = dtos as Array<Record<string, unknown>>;
     const mapped = raw.map(mapDtoToAppointment);
     const hasCustomer = raw.some(d => d['customerId'] !== undefined && d['customerId'] !== null && String(d['customerId']).length > 0);
-    return hasCustomer ? mapped.filter((a: Appointment) => a.customerId === customerId && a.status === 'Completed') : mapped.filter((a: Appointment) => a.status === 'Completed');
+    return hasCustomer ? mapped.filter((a: Appointment) => a.customerId === customerId) : mapped;
   },
 
   async getAppointmentById(appointmentId: string): Promise<Appointment | undefined> {
@@ -180,7 +204,7 @@ function mapDtoToAppointment(dto: Record<string, unknown>): Appointment {
  */
 export const projectService = {
   async getCustomerProjects(customerId: string): Promise<Project[]> {
-    const dtos = await callApi(`/api/projects`);
+    const dtos = await callApiAllPages(`/api/projects`);
     if (!Array.isArray(dtos)) throw new Error('Invalid projects response from server');
     const raw = dtos as Array<Record<string, unknown>>;
     const mapped = raw.map(mapDtoToProject);
@@ -189,7 +213,7 @@ export const projectService = {
   },
 
   async getOngoingProjects(customerId: string): Promise<Project[]> {
-    const dtos = await callApi(`/api/projects`);
+    const dtos = await callApiAllPages(`/api/projects`);
     if (!Array.isArray(dtos)) throw new Error('Invalid projects response from server');
     const raw = dtos as Array<Record<string, unknown>>;
     const mapped = raw.map(mapDtoToProject);
@@ -200,14 +224,12 @@ export const projectService = {
   },
 
   async getCompletedProjects(customerId: string): Promise<Project[]> {
-    const dtos = await callApi(`/api/projects`);
+    const dtos = await callApiAllPages(`/api/projects`, { status: 'COMPLETED' });
     if (!Array.isArray(dtos)) throw new Error('Invalid projects response from server');
     const raw = dtos as Array<Record<string, unknown>>;
     const mapped = raw.map(mapDtoToProject);
     const hasCustomer = raw.some(d => d['customerId'] !== undefined && d['customerId'] !== null && String(d['customerId']).length > 0);
-    return hasCustomer
-      ? mapped.filter((p: Project) => p.customerId === customerId && p.status === 'Completed')
-      : mapped.filter((p: Project) => p.status === 'Completed');
+    return hasCustomer ? mapped.filter((p: Project) => p.customerId === customerId) : mapped;
   },
 
   async getProjectById(projectId: string): Promise<Project | undefined> {
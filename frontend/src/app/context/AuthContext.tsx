@@ -9,6 +9,7 @@ const AuthContext = createContext<AuthContextType | undefined>(undefined);
 
 const TOKEN_KEY = 'auth_token';
 const USER_KEY = 'auth_user';
+const REFRESH_TOKEN_KEY = 'auth_refresh_token';
 
 export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children }) => {
   const [user, setUser] = useState<User | null>(null);
@@ -39,6 +40,7 @@ export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children
       };
 
       localStorage.setItem(TOKEN_KEY, response.token);
+      localStorage.setItem(REFRESH_TOKEN_KEY, response.refreshToken);
       localStorage.setItem(USER_KEY, JSON.stringify(userData));
       
       setToken(response.token);
@@ -75,6 +77,7 @@ export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children
       };
 
       localStorage.setItem(TOKEN_KEY, response.token);
+      localStorage.setItem(REFRESH_TOKEN_KEY, response.refreshToken);
       localStorage.setItem(USER_KEY, JSON.stringify(userData));
       
       setToken(response.token);
@@ -91,13 +94,16 @@ export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children
 
   const logout = async (): Promise<void> => {
     try {
-      if (token) {
-        await logoutUser(token);
+      // The access token may have been refreshed since login, so read the stored one
+      const currentToken = localStorage.getItem(TOKEN_KEY) || token;
+      if (currentToken) {
+        await logoutUser(currentToken, localStorage.getItem(REFRESH_TOKEN_KEY));
       }
     } catch (error) {
       console.error('Logout error:', error);
     } finally {
       localStorage.removeItem(TOKEN_KEY);
+      localStorage.removeItem(REFRESH_TOKEN_KEY);
       localStorage.removeItem(USER_KEY);
       setToken(null);
       setUser(null);
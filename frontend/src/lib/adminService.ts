@@ -25,7 +25,7 @@ export const adminService = {
 
   // Appointments endpoint
   getAllAppointments: async () => {
-    return await api.get('/admin/appointments');
+    return await api.getAll('/admin/appointments');
   },
 
   // Assign employee to appointment
@@ -42,7 +42,7 @@ export const adminService = {
 
   // Projects endpoint
   getAllProjects: async () => {
-    return await api.get('/admin/projects');
+    return await api.getAll('/admin/projects');
   },
 
   // Assign employee to project
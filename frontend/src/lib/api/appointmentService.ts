@@ -1,5 +1,5 @@
 // API configuration
-import { axiosInstance } from '@/lib/apiClient';
+import { api, axiosInstance } from '@/lib/apiClient';
 
 const handleResponse = async (response: any) => {
   if (!response.ok) {
@@ -23,7 +23,7 @@ export interface Appointment {
 export const appointmentService = {
   // Get all appointments
   getAllAppointments: async (): Promise<Appointment[]> => {
-    const { data } = await axiosInstance.get('/appointments');
+    const data = await api.getAll('/appointments');
   // map backend DTO to frontend Appointment shape
   // eslint-disable-next-line @typescript-eslint/no-explicit-any
   return (data || []).map((d: any) => ({
@@ -38,6 +38,25 @@ export const appointmentService = {
     }));
   },
 
+  // Get appointments in one backend status (e.g. 'ASSIGNED'), filtered on the server.
+  // Stops after maxItems so short lists never fetch the later pages.
+  getAppointmentsByStatus: async (status: string, customerId?: string, maxItems?: number): Promise<Appointment[]> => {
+    const data = await api.getAll('/appointments', {
+      params: { status, ...(customerId ? { customerId } : {}) }
+    }, maxItems);
+  // eslint-disable-next-line @typescript-eslint/no-explicit-any
+  return (data || []).map((d: any) => ({
+      id: d.appointmentId || d.id,
+      customerId: d.customerId,
+      vehicleNumber: d.vehicleNo || d.vehicleNumber,
+      serviceName: d.service || d.serviceName,
+      date: d.date,
+      time: d.startTime || d.time,
+      status: d.status,
+      progressPercentage: d.progressPercentage ?? 0
+    }));
+  },
+
   // Get appointments for a specific customer
   getCustomerAppointments: async (customerId: string): Promise<Appointment[]> => {
     const { data } = await axiosInstance.get(`/appointments/customer/${customerId}`);
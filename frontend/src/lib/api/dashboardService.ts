@@ -7,6 +7,7 @@ import { appointmentService } from './appointmentService';
 import { projectService } from './projectService';
 import { vehicleApi } from '../vehicleApi';
 import { DashboardStats } from '@/types/dashboard.types';
+import { ProjectStatus } from '@/types/project.type';
 
 export const dashboardService = {
   /**
@@ -99,17 +100,7 @@ export const dashboardService = {
    */
   getUpcomingAppointments: async (customerId?: string, limit: number = 4) => {
     try {
-      const appointments = await appointmentService.getAllAppointments();
-      const filtered = customerId 
-        ? appointments.filter(a => a.customerId === customerId)
-        : appointments;
-      
-      return filtered
-        .filter(a => {
-          const statusLower = a.status.toLowerCase();
-          return statusLower === 'assigned';
-        })
-        .slice(0, limit);
+      return await appointmentService.getAppointmentsByStatus('ASSIGNED', customerId, limit);
     } catch (error) {
       console.error('Failed to fetch upcoming appointments:', error);
       return [];
@@ -121,23 +112,7 @@ export const dashboardService = {
    */
   getOngoingProjects: async (customerId?: string, limit: number = 4) => {
     try {
-      const projects = await projectService.getAllProjects();
-      console.log('All projects fetched:', projects); // Debug log
-      
-      const filtered = customerId
-        ? projects.filter(p => p.customerId === customerId)
-        : projects;
-      
-      console.log('Filtered projects:', filtered); // Debug log
-      
-      const ongoing = filtered.filter(p => {
-        const statusLower = p.status.toLowerCase();
-        console.log('Project:', p.taskName, 'status:', p.status, 'lowercase:', statusLower); // Debug log
-        return statusLower === 'assigned';
-      });
-      
-      console.log('Ongoing projects:', ongoing); // Debug log
-      return ongoing.slice(0, limit);
+      return await projectService.getProjectsByStatus(ProjectStatus.ASSIGNED, customerId, limit);
     } catch (error) {
       console.error('Failed to fetch ongoing projects:', error);
       return [];
@@ -3,7 +3,7 @@
  * Handles all project-related API calls
  */
 
-import { axiosInstance } from '@/lib/apiClient';
+import { api, axiosInstance } from '@/lib/apiClient';
 import { ProjectDTO, ProjectStatus } from '@/types/project.type';
 
 export interface Project {
@@ -82,7 +82,7 @@ export const projectService = {
    * Get all projects (optionally filtered by customer)
    */
   getAllProjects: async (): Promise<Project[]> => {
-    const { data } = await axiosInstance.get<ProjectDTO[]>('/projects');
+    const data = await api.getAll<ProjectDTO>('/projects');
     return (data || []).map(mapProjectDtoToProject);
   },
 
@@ -90,26 +90,35 @@ export const projectService = {
    * Get projects by customer ID
    */
   getCustomerProjects: async (customerId?: string): Promise<Project[]> => {
-    const { data } = await axiosInstance.get<ProjectDTO[]>('/projects', {
+    const data = await api.getAll<ProjectDTO>('/projects', {
       params: customerId ? { customerId } : undefined
     });
     return (data || []).map(mapProjectDtoToProject);
   },
 
+  /**
+   * Get projects in one backend status, filtered on the server.
+   * Stops after maxItems so short lists never fetch the later pages.
+   */
+  getProjectsByStatus: async (status: ProjectStatus, customerId?: string, maxItems?: number): Promise<Project[]> => {
+    const data = await api.getAll<ProjectDTO>('/projects', {
+      params: { status, ...(customerId ? { customerId } : {}) }
+    }, maxItems);
+    return (data || []).map(mapProjectDtoToProject);
+  },
+
   /**
    * Get ongoing projects for a customer
    */
   getOngoingProjects: async (customerId?: string): Promise<Project[]> => {
-    const allProjects = await projectService.getCustomerProjects(customerId);
-    return allProjects.filter(p => p.status === 'In Progress');
+    return projectService.getProjectsByStatus(ProjectStatus.IN_PROGRESS, customerId);
   },
 
   /**
    * Get completed projects for a customer
    */
   getCompletedProjects: async (customerId?: string): Promise<Project[]> => {
-    const allProjects = await projectService.getCustomerProjects(customerId);
-    return allProjects.filter(p => p.status === 'Completed');
+    return projectService.getProjectsByStatus(ProjectStatus.COMPLETED, customerId);
   },
 
   /**
@@ -39,21 +39,77 @@ axiosInstance.interceptors.request.use(
   }
 );
 
+// Access tokens are short-lived; concurrent 401s share one refresh call
+let refreshInFlight: Promise<string | null> | null = null;
+
+// Refresh tokens are single-use, so a second tab posting the one just rotated would look
+// like reuse and revoke the whole family. Tabs take turns through a Web Lock and each
+// re-reads storage once it holds the lock, reusing the tokens another tab already stored.
+const rotateTokens = async (staleToken: string | null): Promise<string | null> => {
+  const current = localStorage.getItem('auth_token');
+  if (current && current !== staleToken) {
+    return current;
+  }
+  const refreshToken = localStorage.getItem('auth_refresh_token');
+  if (!refreshToken) {
+    return null;
+  }
+  const response = await axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken });
+  localStorage.setItem('auth_token', response.data.token);
+  localStorage.setItem('auth_refresh_token', response.data.refreshToken);
+  return response.data.token as string;
+};
+
+const refreshAccessToken = (staleToken: string | null): Promise<string | null> => {
+  if (!refreshInFlight) {
+    const rotation = 'locks' in navigator
+      ? navigator.locks.request('auth_refresh', () => rotateTokens(staleToken))
+      : rotateTokens(staleToken);
+    refreshInFlight = rotation
+      .catch(() => null)
+      .finally(() => {
+        refreshInFlight = null;
+      });
+  }
+  return refreshInFlight;
+};
+
 // Response interceptor to handle errors
 axiosInstance.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
-      if (typeof window !== 'undefined') {
-        localStorage.removeItem('auth_token');
-        localStorage.removeItem('auth_user');
-        window.location.href = '/auth/login';
+  async (error) => {
+    if (error.response?.status === 401 && typeof window !== 'undefined') {
+      const original = error.config;
+      if (original && !original._retried) {
+        original._retried = true;
+        const sent = original.headers?.Authorization as string | undefined;
+        const token = await refreshAccessToken(sent ? sent.replace(/^Bearer /, '') : null);
+        if (token) {
+          original.headers.Authorization = `Bearer ${token}`;
+          return axiosInstance(original);
+        }
       }
+      localStorage.removeItem('auth_token');
+      localStorage.removeItem('auth_refresh_token');
+      localStorage.removeItem('auth_user');
+      window.location.href = '/auth/login';
     }
     return Promise.reject(error);
   }
 );
 
+// Keyset-paginated listings return one page per call; the cursor for the next page is in X-Next-Cursor
+const fetchPage = async <T = any>(endpoint: string, config?: AxiosRequestConfig, cursor?: string): Promise<{ items: T[]; nextCursor?: string }> => {
+  const response = await axiosInstance.get<T[]>(endpoint, {
+    ...config,
+    params: { ...config?.params, ...(cursor ? { cursor } : {}) },
+  });
+  return {
+    items: response.data || [],
+    nextCursor: (response.headers['x-next-cursor'] as string | undefined) || undefined,
+  };
+};
+
 export const api = {
   get: async <T = any>(endpoint: string, config?: AxiosRequestConfig): Promise<T> => {
     const response = await axiosInstance.get(endpoint, config);
@@ -79,6 +135,24 @@ export const api = {
     const response = await axiosInstance.delete(endpoint, config);
     return response.data;
   },
+
+  getPage: fetchPage,
+
+  // Follow X-Next-Cursor until the listing ends, or until maxItems have been collected
+  getAll: async <T = any>(endpoint: string, config?: AxiosRequestConfig, maxItems?: number): Promise<T[]> => {
+    const items: T[] = [];
+    let cursor: string | undefined;
+    do {
+      const remaining = maxItems !== undefined ? maxItems - items.length : undefined;
+      const page = await fetchPage<T>(endpoint, {
+        ...config,
+        params: { ...config?.params, ...(remaining !== undefined ? { limit: remaining } : {}) },
+      }, cursor);
+      items.push(...page.items);
+      cursor = page.nextCursor;
+    } while (cursor && (maxItems === undefined || items.length < maxItems));
+    return maxItems !== undefined ? items.slice(0, maxItems) : items;
+  },
 };
 
 export default api;
@@ -19,9 +19,9 @@ export async function signupUser(data: SignupRequest): Promise<AuthResponse> {
   }
 }
 
-export async function logoutUser(token: string): Promise<void> {
+export async function logoutUser(token: string, refreshToken?: string | null): Promise<void> {
   try {
-    await axiosInstance.post('/auth/logout', null, {
+    await axiosInstance.post('/auth/logout', refreshToken ? { refreshToken } : null, {
       headers: {
         'Authorization': `Bearer ${token}`,
       },
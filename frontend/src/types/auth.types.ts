@@ -33,6 +33,8 @@ export interface AuthResponse {
   type: string;
   email: string;
   role: string;
+  refreshToken: string;
+  expiresIn: number;
 }
 
 export interface AuthContextType {